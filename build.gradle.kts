@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.boris"
@@ -26,6 +27,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-flyway")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.hibernate.orm:hibernate-micrometer")
 
     // mapstruct
     implementation("org.mapstruct:mapstruct:1.6.3")
@@ -36,6 +39,9 @@ dependencies {
     // redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // caffeine
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // flyway
     implementation("org.flywaydb:flyway-core:12.0.0")
     runtimeOnly("org.flywaydb:flyway-database-postgresql:12.0.0")
@@ -63,8 +69,20 @@ dependencies {
 
     // docs
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:3.0.1")
+
+    // benchmarks
+    jmh("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
@@ -0,0 +1,84 @@
+package com.boris.springredisblueprint;
+
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.entity.Tag;
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Builds entity graphs shaped like production data for the benchmarks: one category
+ * and a handful of tags shared by many posts of mixed status.
+ */
+public final class BenchmarkFixtures {
+    private static final String PARAGRAPH =
+            "Redis keeps hot posts close to the application so most reads never reach Postgres. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String content(int size) {
+        StringBuilder content = new StringBuilder(size + PARAGRAPH.length());
+        while (content.length() < size) {
+            content.append(PARAGRAPH);
+        }
+
+        return content.substring(0, size);
+    }
+
+    /**
+     * @param postCount   number of posts attached to the category and every tag
+     * @param tagCount    number of tags on each post
+     * @param contentSize size of each post body in characters
+     */
+    public static Category categoryWithPosts(int postCount, int tagCount, int contentSize) {
+        User author = User.builder()
+                .id(UUID.randomUUID())
+                .name("Boris")
+                .email("boris@example.com")
+                .password("password")
+                .createdAt(LocalDateTime.of(2024, 6, 1, 9, 0))
+                .posts(new ArrayList<>())
+                .build();
+
+        Category category = Category.builder()
+                .id(UUID.randomUUID())
+                .name("Backend")
+                .posts(new ArrayList<>())
+                .build();
+
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder()
+                    .id(UUID.randomUUID())
+                    .name("tag-" + i)
+                    .posts(new HashSet<>())
+                    .build());
+        }
+
+        String body = content(contentSize);
+        for (int i = 0; i < postCount; i++) {
+            Post post = Post.builder()
+                    .id(UUID.randomUUID())
+                    .title("Post " + i)
+                    .content(body)
+                    .author(author)
+                    .category(category)
+                    .tags(new HashSet<>(tags))
+                    .readingTime(Math.max(1, contentSize / 6 / 200))
+                    .status(i % 4 == 0 ? PostStatusEnum.DRAFT : PostStatusEnum.PUBLISHED)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(i))
+                    .updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(i))
+                    .build();
+
+            author.getPosts().add(post);
+            category.getPosts().add(post);
+            tags.forEach(tag -> tag.getPosts().add(post));
+        }
+
+        return category;
+    }
+}
@@ -0,0 +1,95 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.BenchmarkFixtures;
+import com.boris.springredisblueprint.model.dto.AuthorDto;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
+import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and the binary serializer of cached {@link PostDto} values on
+ * short and long-form post bodies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostDtoSerializerBenchmark {
+
+    @Param({"1024", "65536", "524288"})
+    private int contentSize;
+
+    private RedisSerializer<PostDto> jsonSerializer;
+    private RedisSerializer<PostDto> binarySerializer;
+    private PostDto post;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonSerializer = new JacksonJsonRedisSerializer<>(PostDto.class);
+        binarySerializer = new PostDtoBinarySerializer(jsonSerializer, 4096);
+        post = buildPost(contentSize);
+        jsonBytes = jsonSerializer.serialize(post);
+        binaryBytes = binarySerializer.serialize(post);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(post);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(post);
+    }
+
+    @Benchmark
+    public PostDto jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public PostDto binaryDeserialize() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public PostDto jsonRoundTrip() {
+        return jsonSerializer.deserialize(jsonSerializer.serialize(post));
+    }
+
+    @Benchmark
+    public PostDto binaryRoundTrip() {
+        return binarySerializer.deserialize(binarySerializer.serialize(post));
+    }
+
+    static PostDto buildPost(int contentSize) {
+        Set<TagDto> tags = new LinkedHashSet<>();
+        for (int i = 0; i < 5; i++) {
+            tags.add(TagDto.builder().id(UUID.randomUUID()).name("tag-" + i).postCount(i * 10).build());
+        }
+
+        return PostDto.builder()
+                .id(UUID.randomUUID())
+                .title("Caching strategies for read-heavy blogs")
+                .content(BenchmarkFixtures.content(contentSize))
+                .author(AuthorDto.builder().id(UUID.randomUUID()).name("Boris").build())
+                .category(CategoryDto.builder().id(UUID.randomUUID()).name("Backend").postCount(42).build())
+                .tags(tags)
+                .readingTime(Math.max(1, contentSize / 6 / 200))
+                .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .updatedAt(LocalDateTime.of(2025, 1, 16, 8, 0))
+                .status(PostStatusEnum.PUBLISHED)
+                .build();
+    }
+}
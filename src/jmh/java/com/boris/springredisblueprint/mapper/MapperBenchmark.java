@@ -0,0 +1,55 @@
+package com.boris.springredisblueprint.mapper;
+
+import com.boris.springredisblueprint.BenchmarkFixtures;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
+import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.entity.Tag;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost of the entity graphs returned by the listing and reference data endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int postCount;
+
+    private final PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+    private final TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
+    private final CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
+    private Category category;
+    private Tag tag;
+    private Post post;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        category = BenchmarkFixtures.categoryWithPosts(postCount, 5, 2048);
+        post = category.getPosts().getFirst();
+        tag = post.getTags().iterator().next();
+    }
+
+    @Benchmark
+    public PostDto postToDto() {
+        return postMapper.toDto(post);
+    }
+
+    @Benchmark
+    public TagDto tagToDto() {
+        return tagMapper.toDto(tag);
+    }
+
+    @Benchmark
+    public CategoryDto categoryToDto() {
+        return categoryMapper.toDTO(category);
+    }
+}
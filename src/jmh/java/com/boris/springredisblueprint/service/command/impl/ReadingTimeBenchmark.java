@@ -0,0 +1,38 @@
+package com.boris.springredisblueprint.service.command.impl;
+
+import com.boris.springredisblueprint.BenchmarkFixtures;
+import com.boris.springredisblueprint.util.TextStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading time computed on every post create and update, from short posts to 1MB bodies.
+ * {@code splitReadingTime} is the former regex split implementation, kept as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadingTimeBenchmark {
+
+    @Param({"1024", "16384", "131072", "1048576"})
+    private int contentSize;
+
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = BenchmarkFixtures.content(contentSize);
+    }
+
+    @Benchmark
+    public int calculateReadingTime() {
+        return PostCommandServiceImpl.calculateReadingTime(TextStats.of(content).wordCount());
+    }
+
+    @Benchmark
+    public int splitReadingTime() {
+        int wordCount = content.trim().split("\\s+").length;
+        return (int) Math.ceil((double) wordCount / 200);
+    }
+}
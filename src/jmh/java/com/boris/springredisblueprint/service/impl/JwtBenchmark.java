@@ -0,0 +1,64 @@
+package com.boris.springredisblueprint.service.impl;
+
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.security.BlogUserDetails;
+import com.boris.springredisblueprint.security.JwtKeyRing;
+import com.boris.springredisblueprint.security.PasswordHashingExecutor;
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import com.boris.springredisblueprint.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing on login and token validation done by the authentication filter on
+ * every authenticated request. The user lookup is stubbed so only the JWT work is measured;
+ * tokens carry the user id, so validation never reaches it. The verified token cache is
+ * disabled so every validation pays for signature verification and claims parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private AuthenticationServiceImpl authenticationService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userDetails = new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email("boris@example.com")
+                .password("password")
+                .build());
+        UserDetailsService userDetailsService = username -> userDetails;
+
+        authenticationService = new AuthenticationServiceImpl(
+                authentication -> authentication,
+                new PasswordHashingExecutor(1, 1, new SimpleMeterRegistry()),
+                userDetailsService,
+                new JwtKeyRing(SECRET, List.of()),
+                new VerifiedTokenCache(0),
+                new TokenRevocationList(new StringRedisTemplate(), "jwt:revoked", 100_000, 0.001));
+
+        token = authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public UserDetails validateToken() {
+        return authenticationService.validateToken(token);
+    }
+}
@@ -0,0 +1,60 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.util.FrequencySketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * TinyLFU style admission for the entries of one cache.
+ * <p>
+ * Accesses are counted in a per-node {@link FrequencySketch}, and a missing key is only
+ * worth writing once it has been seen {@code minFrequency} times recently. One-off reads
+ * of long-tail keys are then served without taking Redis memory from entries that are
+ * actually reused. Decisions are counted as {@code cache.admission} tagged with the cache
+ * name and {@code result=admitted|rejected}.
+ */
+public class CacheAdmissionFilter {
+    private final FrequencySketch sketch;
+    private final int minFrequency;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public CacheAdmissionFilter(String cacheName, int expectedKeys, int minFrequency, MeterRegistry meterRegistry) {
+        if (minFrequency < 1 || minFrequency > FrequencySketch.MAX_FREQUENCY) {
+            throw new IllegalArgumentException(String.format(
+                    "Minimum admission frequency must be between 1 and %d.", FrequencySketch.MAX_FREQUENCY));
+        }
+
+        this.sketch = new FrequencySketch(expectedKeys);
+        this.minFrequency = minFrequency;
+        this.admitted = Counter.builder("cache.admission")
+                .tag("cache", cacheName)
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("cache.admission")
+                .tag("cache", cacheName)
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    public void recordAccess(Object key) {
+        sketch.increment(key);
+    }
+
+    /**
+     * Whether the key would be admitted, without counting it as an admission decision.
+     */
+    public boolean isFrequent(Object key) {
+        return minFrequency <= 1 || sketch.frequency(key) >= minFrequency;
+    }
+
+    public boolean admit(Object key) {
+        if (!isFrequent(key)) {
+            rejected.increment();
+            return false;
+        }
+
+        admitted.increment();
+        return true;
+    }
+}
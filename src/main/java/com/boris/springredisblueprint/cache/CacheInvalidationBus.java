@@ -0,0 +1,75 @@
+package com.boris.springredisblueprint.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spreads near cache invalidations across nodes through Redis pub/sub.
+ * <p>
+ * Every node publishes the keys it evicts or overwrites and drops the matching
+ * entries from its own local tier when a message from another node arrives.
+ */
+@Log4j2
+public class CacheInvalidationBus implements MessageListener {
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR_MARKER = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public void register(TwoTierCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, CLEAR_MARKER));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR_MARKER.equals(parts[2])) {
+            log.debug("Clearing near cache '{}' on request of node {}", parts[1], parts[0]);
+            cache.clearLocal();
+        } else {
+            log.debug("Evicting '{}' from near cache '{}' on request of node {}", parts[2], parts[1], parts[0]);
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            // The local tier expires on its own, a lost message only delays convergence
+            log.warn("Failed to publish cache invalidation '{}': {}", payload, e.getMessage());
+        }
+    }
+}
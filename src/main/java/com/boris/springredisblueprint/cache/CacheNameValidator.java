@@ -0,0 +1,70 @@
+package com.boris.springredisblueprint.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.interceptor.CacheOperation;
+import org.springframework.cache.interceptor.CacheOperationSource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fails the startup when an application bean uses a cache through {@code @Cacheable},
+ * {@code @CachePut} or {@code @CacheEvict} that is not declared in the {@link CacheRegistry}.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class CacheNameValidator implements SmartInitializingSingleton {
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final CacheRegistry cacheRegistry;
+    private final CacheOperationSource cacheOperationSource = new AnnotationCacheOperationSource();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!AutoConfigurationPackages.has(beanFactory)) {
+            return;
+        }
+
+        List<String> basePackages = AutoConfigurationPackages.get(beanFactory);
+        Set<String> unregisteredUsages = new TreeSet<>();
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+
+            Class<?> userClass = ClassUtils.getUserClass(beanType);
+            if (basePackages.stream().noneMatch(basePackage -> userClass.getName().startsWith(basePackage + "."))) {
+                continue;
+            }
+
+            ReflectionUtils.doWithMethods(userClass, method -> {
+                Collection<CacheOperation> operations = cacheOperationSource.getCacheOperations(method, userClass);
+                if (operations == null) {
+                    return;
+                }
+
+                operations.stream()
+                        .flatMap(operation -> operation.getCacheNames().stream())
+                        .filter(cacheName -> !cacheRegistry.contains(cacheName))
+                        .forEach(cacheName -> unregisteredUsages.add(
+                                userClass.getSimpleName() + "." + method.getName() + " -> " + cacheName));
+            }, ReflectionUtils.USER_DECLARED_METHODS);
+        }
+
+        if (!unregisteredUsages.isEmpty()) {
+            throw new IllegalStateException("Caches used but not registered in the cache registry: " + unregisteredUsages);
+        }
+
+        log.info("Validated cache usages against {} registered caches", cacheRegistry.names().size());
+    }
+}
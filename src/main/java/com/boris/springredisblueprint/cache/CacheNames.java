@@ -0,0 +1,17 @@
+package com.boris.springredisblueprint.cache;
+
+/**
+ * Names of the caches registered in the {@link CacheRegistry}.
+ */
+public final class CacheNames {
+    public static final String POST_CACHE = "POST_CACHE";
+    public static final String POST_LISTING_CACHE = "POST_LISTING_CACHE";
+    public static final String TAG_LIST_CACHE = "TAG_LIST_CACHE";
+    public static final String CATEGORY_LIST_CACHE = "CATEGORY_LIST_CACHE";
+    public static final String POST_RESPONSE_CACHE = "POST_RESPONSE_CACHE";
+    public static final String TAG_LIST_RESPONSE_CACHE = "TAG_LIST_RESPONSE_CACHE";
+    public static final String CATEGORY_LIST_RESPONSE_CACHE = "CATEGORY_LIST_RESPONSE_CACHE";
+
+    private CacheNames() {
+    }
+}
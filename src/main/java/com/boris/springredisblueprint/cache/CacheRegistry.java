@@ -0,0 +1,60 @@
+package com.boris.springredisblueprint.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of every cache the application is allowed to use.
+ * <p>
+ * The Redis cache manager is built from the registered specs only, so a cache
+ * name that is not declared here has no configuration and no serializer.
+ */
+public class CacheRegistry {
+    private final Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+    public CacheRegistry(Collection<CacheSpec> specs) {
+        for (CacheSpec spec : specs) {
+            Assert.hasText(spec.name(), "Cache name must not be empty");
+            Assert.notNull(spec.valueType(), () -> "Value type of cache '" + spec.name() + "' must be declared");
+            Assert.notNull(spec.serializer(), () -> "Serializer of cache '" + spec.name() + "' must be declared");
+            Assert.isTrue(spec.ttl() != null && spec.ttl().isPositive(),
+                    () -> "TTL of cache '" + spec.name() + "' must be positive");
+            Assert.isNull(this.specs.putIfAbsent(spec.name(), spec),
+                    () -> "Cache '" + spec.name() + "' is registered more than once");
+        }
+    }
+
+    public boolean contains(String name) {
+        return specs.containsKey(name);
+    }
+
+    public CacheSpec get(String name) {
+        CacheSpec spec = specs.get(name);
+        if (spec == null) {
+            throw new IllegalArgumentException("Cache '" + name + "' is not registered");
+        }
+
+        return spec;
+    }
+
+    public Set<String> names() {
+        return Collections.unmodifiableSet(specs.keySet());
+    }
+
+    public Set<String> nearCacheNames() {
+        return specs.values().stream()
+                .filter(CacheSpec::nearCache)
+                .map(CacheSpec::name)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Map<String, RedisCacheConfiguration> redisCacheConfigurations() {
+        Map<String, RedisCacheConfiguration> configurations = new LinkedHashMap<>();
+        specs.forEach((name, spec) -> configurations.put(name, spec.toRedisCacheConfiguration()));
+
+        return configurations;
+    }
+}
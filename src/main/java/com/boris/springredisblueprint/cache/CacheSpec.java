@@ -0,0 +1,31 @@
+package com.boris.springredisblueprint.cache;
+
+import lombok.Builder;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import tools.jackson.databind.JavaType;
+
+import java.time.Duration;
+
+/**
+ * Declaration of a named cache: the type of its values, how long they live, whether
+ * {@code null} results are cached, how values are written to Redis and whether the
+ * cache gets an in-process near cache tier.
+ */
+@Builder(toBuilder = true)
+public record CacheSpec(String name,
+                        JavaType valueType,
+                        Duration ttl,
+                        boolean cacheNullValues,
+                        RedisSerializer<?> serializer,
+                        boolean nearCache) {
+
+    public RedisCacheConfiguration toRedisCacheConfiguration() {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+
+        return cacheNullValues ? configuration : configuration.disableCachingNullValues();
+    }
+}
@@ -0,0 +1,75 @@
+package com.boris.springredisblueprint.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A serialized JSON response body, gzip compressed when it is large enough to be worth it.
+ * <p>
+ * The body carries the version of the resource it was rendered from, which is what its
+ * entity tag is built from. Stored as one byte telling whether the body is compressed,
+ * the version as eight bytes, then the body.
+ */
+public record CachedResponseBody(byte[] body, boolean gzipped, long version) {
+    private static final byte IDENTITY = 0;
+    private static final byte GZIP = 1;
+    private static final int HEADER_LENGTH = 1 + Long.BYTES;
+
+    public static CachedResponseBody of(byte[] json, long version, int gzipThreshold) {
+        return json.length >= gzipThreshold
+                ? new CachedResponseBody(gzip(json), true, version)
+                : new CachedResponseBody(json, false, version);
+    }
+
+    public static CachedResponseBody fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_LENGTH || (bytes[0] != IDENTITY && bytes[0] != GZIP)) {
+            throw new IllegalArgumentException("Not a cached response body.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        boolean gzipped = buffer.get() == GZIP;
+        long version = buffer.getLong();
+        byte[] body = new byte[buffer.remaining()];
+        buffer.get(body);
+        return new CachedResponseBody(body, gzipped, version);
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+                .put(gzipped ? GZIP : IDENTITY)
+                .putLong(version)
+                .put(body)
+                .array();
+    }
+
+    /**
+     * The uncompressed body, for clients that do not accept gzip.
+     */
+    public byte[] json() {
+        if (!gzipped) {
+            return body;
+        }
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt cached response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+}
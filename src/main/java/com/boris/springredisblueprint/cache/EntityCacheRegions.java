@@ -0,0 +1,14 @@
+package com.boris.springredisblueprint.cache;
+
+/**
+ * Names of the Hibernate second-level cache regions stored by the {@link RedisRegionFactory}.
+ */
+public final class EntityCacheRegions {
+    public static final String CATEGORIES = "categories";
+    public static final String TAGS = "tags";
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+
+    private EntityCacheRegions() {
+    }
+}
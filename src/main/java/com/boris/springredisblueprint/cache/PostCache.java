@@ -0,0 +1,484 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.PostDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Versioned access to the {@link CacheNames#POST_CACHE} entries.
+ * <p>
+ * Once a post change commits, its version is recorded as a floor in Redis
+ * ({@code post-version:<id>}) before the entry is evicted. Entries are only written by a
+ * script that refuses versions below that floor, so a reader that loaded the post before
+ * the change committed can never put the old copy back. Deleted posts get a floor no
+ * version can reach. This is what allows long entry TTLs.
+ * <p>
+ * Floors live as long as the entries they guard. Redis failures are logged and treated
+ * as misses.
+ * <p>
+ * In write-through mode an update puts the new version in Redis instead of evicting it, so
+ * readers of a post being edited never take a cold miss. Other nodes only drop their local
+ * copy and read the new one from Redis.
+ * <p>
+ * Misses go through {@link #getOrLoad}: concurrent misses within the JVM share one load,
+ * and across nodes a short Redis lease ({@code post-lease:<id>}) lets a single node load
+ * while the others poll the cache for its result. A node that loaded an entry remembers
+ * when it expires and how long the load took, and refreshes it early with a probability
+ * that grows towards expiry (XFetch), so hot posts are renewed before they ever miss.
+ * <p>
+ * Loaded posts are only written once the {@link CacheAdmissionFilter} has seen them read
+ * often enough; colder posts are loaded without a lease and not cached.
+ */
+@Log4j2
+@Component
+public class PostCache {
+    static final String VERSION_KEY_PREFIX = "post-version:";
+    static final String LEASE_KEY_PREFIX = "post-lease:";
+
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(25);
+
+    static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local floor = redis.call('GET', KEYS[2])
+            if floor and tonumber(floor) > tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // floors only move up, so a late event for an older version cannot lower one
+    private static final RedisScript<Long> RAISE_FLOOR_SCRIPT = new DefaultRedisScript<>("""
+            local floor = redis.call('GET', KEYS[1])
+            if floor and tonumber(floor) >= tonumber(ARGV[1]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache postCache;
+    private final RedisSerializer<PostDto> serializer;
+    private final String keyPrefix;
+    private final Duration ttl;
+    @Getter
+    private final boolean writeThrough;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+    private final double earlyRefreshBeta;
+    private final CacheAdmissionFilter admissionFilter;
+    private final String leaseToken = UUID.randomUUID().toString();
+    private final ConcurrentMap<UUID, CompletableFuture<PostDto>> loads = new ConcurrentHashMap<>();
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+    private final com.github.benmanes.caffeine.cache.Cache<UUID, RefreshHint> refreshHints;
+
+    private record RefreshHint(long expiresAtMillis, long loadMillis) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public PostCache(StringRedisTemplate stringRedisTemplate,
+                     CacheManager cacheManager,
+                     CacheRegistry cacheRegistry,
+                     @Value("${cache.post.write-through}") boolean writeThrough,
+                     @Value("${cache.post.load-lease.ttl}") Duration leaseTtl,
+                     @Value("${cache.post.load-lease.wait}") Duration leaseWait,
+                     @Value("${cache.post.early-refresh.beta}") double earlyRefreshBeta,
+                     CacheAdmissionFilter admissionFilter) {
+        CacheSpec spec = cacheRegistry.get(CacheNames.POST_CACHE);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postCache = Objects.requireNonNull(cacheManager.getCache(CacheNames.POST_CACHE),
+                "Cache '" + CacheNames.POST_CACHE + "' is not registered");
+        this.serializer = (RedisSerializer<PostDto>) spec.serializer();
+        this.keyPrefix = spec.toRedisCacheConfiguration().getKeyPrefixFor(CacheNames.POST_CACHE);
+        this.ttl = spec.ttl();
+        this.writeThrough = writeThrough;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.admissionFilter = admissionFilter;
+        this.refreshHints = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached post, or loads it with {@code loader} and caches it. At most one
+     * caller per post and JVM runs the loader, and normally only one node at a time.
+     */
+    public PostDto getOrLoad(UUID id, Supplier<PostDto> loader) {
+        admissionFilter.recordAccess(id);
+        Optional<PostDto> cachedPost = get(id);
+        if (cachedPost.isPresent()) {
+            if (shouldRefreshEarly(id)) {
+                refresh(id, loader);
+            }
+            return cachedPost.get();
+        }
+
+        CompletableFuture<PostDto> load = new CompletableFuture<>();
+        CompletableFuture<PostDto> runningLoad = loads.putIfAbsent(id, load);
+        if (runningLoad != null) {
+            return await(runningLoad);
+        }
+
+        try {
+            PostDto post = loadOnce(id, loader);
+            load.complete(post);
+            return post;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(id, load);
+        }
+    }
+
+    public Optional<PostDto> get(UUID id) {
+        try {
+            return Optional.ofNullable(postCache.get(id, PostDto.class));
+        } catch (Exception e) {
+            log.warn("Failed to read post '{}' from cache: {}", id, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the committed version of a post from its floor, without reading the post.
+     * Without a floor the version is taken from {@code loader} and recorded as the floor,
+     * which is safe because floors only move up.
+     *
+     * @return the version, empty if the post is deleted or unknown or Redis is unavailable
+     */
+    public Optional<Long> currentVersion(UUID id, Supplier<Optional<Long>> loader) {
+        String floor;
+        try {
+            floor = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + id);
+        } catch (Exception e) {
+            log.warn("Failed to read version of post '{}': {}", id, e.getMessage());
+            return Optional.empty();
+        }
+
+        if (floor != null) {
+            long version = Long.parseLong(floor);
+            return version == PostChangedEvent.DELETED ? Optional.empty() : Optional.of(version);
+        }
+
+        Optional<Long> version = loader.get();
+        version.ifPresent(committed -> raiseFloor(id, committed));
+        return version;
+    }
+
+    /**
+     * Looks up several posts at once. Near cache hits are served locally and the remaining
+     * ids are read from Redis with a single MGET.
+     *
+     * @return the cached posts by id, ids that are not cached are absent
+     */
+    public Map<UUID, PostDto> getAll(Collection<UUID> ids) {
+        Map<UUID, PostDto> posts = new HashMap<>();
+        List<UUID> remoteIds = new ArrayList<>();
+        for (UUID id : ids) {
+            PostDto localPost = postCache instanceof TwoTierCache twoTierCache
+                    ? (PostDto) twoTierCache.getLocal(id)
+                    : null;
+            if (localPost != null) {
+                posts.put(id, localPost);
+            } else {
+                remoteIds.add(id);
+            }
+        }
+
+        if (remoteIds.isEmpty()) {
+            return posts;
+        }
+
+        try {
+            byte[][] keys = remoteIds.stream().map(id -> bytes(keyPrefix + id)).toArray(byte[][]::new);
+            List<byte[]> values = stringRedisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+            for (int i = 0; values != null && i < remoteIds.size(); i++) {
+                PostDto post = values.get(i) != null ? serializer.deserialize(values.get(i)) : null;
+                if (post != null) {
+                    posts.put(remoteIds.get(i), post);
+                    if (postCache instanceof TwoTierCache twoTierCache) {
+                        twoTierCache.putLocal(remoteIds.get(i), post);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} posts from cache: {}", remoteIds.size(), e.getMessage());
+        }
+
+        return posts;
+    }
+
+    /**
+     * Caches a post read outside {@link #getOrLoad}, unless it is not read often enough yet
+     * or a newer version of it has been committed in the meantime.
+     *
+     * @return whether the post was cached
+     */
+    public boolean put(PostDto post) {
+        admissionFilter.recordAccess(post.getId());
+        return admissionFilter.admit(post.getId()) && put(post, 0);
+    }
+
+    /**
+     * Caches several posts read outside {@link #getOrLoad} in one pipeline, with the same
+     * admission and version checks as {@link #put(PostDto)}.
+     *
+     * @return how many posts were cached
+     */
+    public int putAll(Collection<PostDto> posts) {
+        List<PostDto> admitted = posts.stream()
+                .filter(post -> {
+                    admissionFilter.recordAccess(post.getId());
+                    return admissionFilter.admit(post.getId());
+                })
+                .toList();
+        if (admitted.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            byte[] script = bytes(PUT_SCRIPT.getScriptAsString());
+            byte[] ttlMillis = bytes(String.valueOf(ttl.toMillis()));
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PostDto post : admitted) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                            bytes(keyPrefix + post.getId()),
+                            bytes(VERSION_KEY_PREFIX + post.getId()),
+                            bytes(String.valueOf(post.getVersion() != null ? post.getVersion() : 0)),
+                            serializer.serialize(post),
+                            ttlMillis);
+                }
+                return null;
+            });
+
+            return (int) results.stream().filter(Long.valueOf(1)::equals).count();
+        } catch (Exception e) {
+            log.warn("Failed to write {} posts to cache: {}", admitted.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private boolean put(PostDto post, long loadMillis) {
+        try {
+            Long written = stringRedisTemplate.execute(PUT_SCRIPT,
+                    RedisSerializer.byteArray(),
+                    new GenericToStringSerializer<>(Long.class),
+                    List.of(keyPrefix + post.getId(), VERSION_KEY_PREFIX + post.getId()),
+                    bytes(String.valueOf(post.getVersion() != null ? post.getVersion() : 0)),
+                    serializer.serialize(post),
+                    bytes(String.valueOf(ttl.toMillis())));
+            if (!Long.valueOf(1).equals(written)) {
+                log.debug("Skipped caching stale version {} of post '{}'", post.getVersion(), post.getId());
+                return false;
+            }
+
+            if (loadMillis > 0) {
+                refreshHints.put(post.getId(), new RefreshHint(System.currentTimeMillis() + ttl.toMillis(), loadMillis));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to write post '{}' to cache: {}", post.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // runs first, so the floor is raised before any other copy of the post is evicted
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        refreshHints.invalidate(event.postId());
+        raiseFloor(event.postId(), event.version());
+
+        if (event.post() != null && admissionFilter.admit(event.postId()) && put(event.post(), 0)) {
+            if (postCache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.invalidateLocal(event.postId());
+            }
+            log.debug("Wrote through version {} of post '{}'", event.version(), event.postId());
+            return;
+        }
+
+        try {
+            postCache.evict(event.postId());
+            log.debug("Evicted post '{}' at version {}", event.postId(), event.version());
+        } catch (Exception e) {
+            log.error("Failed to evict post '{}' from cache: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    private void raiseFloor(UUID id, long version) {
+        try {
+            stringRedisTemplate.execute(RAISE_FLOOR_SCRIPT,
+                    List.of(VERSION_KEY_PREFIX + id),
+                    String.valueOf(version),
+                    String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.error("Failed to record version {} of post '{}': {}", version, id, e.getMessage());
+        }
+    }
+
+    private PostDto loadOnce(UUID id, Supplier<PostDto> loader) {
+        if (!admissionFilter.admit(id)) {
+            // not cached either way, so there is nothing for other nodes to wait for
+            return loader.get();
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + id;
+        boolean leased = acquireLease(leaseKey);
+        if (!leased) {
+            Optional<PostDto> loadedElsewhere = awaitOtherNode(id);
+            if (loadedElsewhere.isPresent()) {
+                return loadedElsewhere.get();
+            }
+            // the leaseholder is slow or gone, loading twice beats failing the request
+            log.debug("Timed out waiting for another node to load post '{}'", id);
+        }
+
+        try {
+            return loadAndPut(loader);
+        } finally {
+            if (leased) {
+                releaseLease(leaseKey);
+            }
+        }
+    }
+
+    private void refresh(UUID id, Supplier<PostDto> loader) {
+        if (!refreshing.add(id)) {
+            return;
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + id;
+        try {
+            // everyone else keeps serving the current entry meanwhile
+            if (acquireLease(leaseKey)) {
+                try {
+                    log.debug("Refreshing post '{}' ahead of expiry", id);
+                    loadAndPut(loader);
+                } finally {
+                    releaseLease(leaseKey);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh post '{}': {}", id, e.getMessage());
+        } finally {
+            refreshing.remove(id);
+        }
+    }
+
+    private PostDto loadAndPut(Supplier<PostDto> loader) {
+        long start = System.nanoTime();
+        PostDto post = loader.get();
+        // at least 1 ms, so fast loads still get an early refresh window
+        put(post, Math.max(1, Duration.ofNanos(System.nanoTime() - start).toMillis()));
+        return post;
+    }
+
+    private boolean shouldRefreshEarly(UUID id) {
+        RefreshHint hint = refreshHints.getIfPresent(id);
+        if (hint == null || earlyRefreshBeta <= 0) {
+            return false;
+        }
+
+        double headStart = -hint.loadMillis() * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + headStart >= hint.expiresAtMillis();
+    }
+
+    private boolean acquireLease(String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken, leaseTtl));
+        } catch (Exception e) {
+            // without Redis every node loads on its own, as it would without leases
+            log.warn("Failed to acquire load lease '{}': {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+        } catch (Exception e) {
+            log.warn("Failed to release load lease '{}': {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private Optional<PostDto> awaitOtherNode(UUID id) {
+        long deadline = System.nanoTime() + leaseWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+
+            Optional<PostDto> post = get(id);
+            if (post.isPresent()) {
+                return post;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static PostDto await(CompletableFuture<PostDto> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
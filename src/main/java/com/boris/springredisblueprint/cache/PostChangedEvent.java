@@ -0,0 +1,36 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.PostScope;
+import com.boris.springredisblueprint.model.dto.PostDto;
+
+import java.util.UUID;
+
+/**
+ * Published when a post is created, updated or deleted, handled by {@link PostCache} and
+ * {@link PostListingCache} once the transaction has committed.
+ *
+ * @param version       the committed version of the post, {@link #DELETED} once it is gone
+ * @param post          the updated post to write through to the cache, {@code null} to evict it
+ * @param previousScope the listings the post appeared in before the change, {@code null} for a new post
+ * @param currentScope  the listings the post appears in after the change, {@code null} once it is deleted
+ */
+public record PostChangedEvent(UUID postId, long version, PostDto post, PostScope previousScope, PostScope currentScope) {
+    public static final long DELETED = Long.MAX_VALUE;
+
+    public PostChangedEvent(UUID postId, long version) {
+        this(postId, version, null, null, null);
+    }
+
+    public PostChangedEvent(UUID postId, long version, PostDto post) {
+        this(postId, version, post, null, null);
+    }
+
+    // new rows start at version 0
+    public static PostChangedEvent created(UUID postId, PostScope scope) {
+        return new PostChangedEvent(postId, 0, null, null, scope);
+    }
+
+    public static PostChangedEvent deleted(UUID postId, PostScope previousScope) {
+        return new PostChangedEvent(postId, DELETED, null, previousScope, null);
+    }
+}
@@ -0,0 +1,466 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.AuthorDto;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
+import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary {@link RedisSerializer} for {@link PostDto} cache values.
+ * <p>
+ * Every value starts with a two byte header ({@link #MAGIC}, format version) followed
+ * by tagged fields, each prefixed with {@code field number << 3 | wire type} so fields
+ * unknown to an older reader can be skipped. UUIDs are written as 16 raw bytes,
+ * timestamps as UTC epoch nanoseconds and the post content is deflated once it
+ * exceeds the configured threshold.
+ * <p>
+ * Values that start with <code>{</code> were written by the JSON serializer and are
+ * still read through it, so both formats can coexist during a rolling deploy.
+ */
+public class PostDtoBinarySerializer implements RedisSerializer<PostDto> {
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte VERSION = 1;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED128 = 3;
+
+    private static final int POST_ID = 1;
+    private static final int POST_TITLE = 2;
+    private static final int POST_CONTENT = 3;
+    private static final int POST_CONTENT_DEFLATED = 4;
+    private static final int POST_AUTHOR = 5;
+    private static final int POST_CATEGORY = 6;
+    private static final int POST_TAG = 7;
+    private static final int POST_READING_TIME = 8;
+    private static final int POST_CREATED_AT = 9;
+    private static final int POST_UPDATED_AT = 10;
+    private static final int POST_STATUS = 11;
+    private static final int POST_WORD_COUNT = 12;
+    private static final int POST_CHARACTER_COUNT = 13;
+    private static final int POST_VERSION = 14;
+
+    // deflate cannot shrink its input by more than about 1032:1
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    // far above the longest content a post accepts, a cached value is never this large
+    private static final int MAX_CONTENT_BYTES = 8 * 1024 * 1024;
+
+    private static final int REF_ID = 1;
+    private static final int REF_NAME = 2;
+    private static final int REF_POST_COUNT = 3;
+
+    private final RedisSerializer<PostDto> jsonSerializer;
+    private final int compressionThreshold;
+
+    /**
+     * @param jsonSerializer       serializer used to read entries written in the JSON format
+     * @param compressionThreshold content size in bytes from which the content is deflated
+     */
+    public PostDtoBinarySerializer(RedisSerializer<PostDto> jsonSerializer, int compressionThreshold) {
+        this.jsonSerializer = jsonSerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(PostDto post) throws SerializationException {
+        if (post == null) {
+            return new byte[0];
+        }
+
+        Writer writer = new Writer(256);
+        writer.raw(MAGIC);
+        writer.raw(VERSION);
+
+        writer.uuid(POST_ID, post.getId());
+        writer.string(POST_TITLE, post.getTitle());
+        writeContent(writer, post.getContent());
+        if (post.getAuthor() != null) {
+            writer.message(POST_AUTHOR, writeAuthor(post.getAuthor()));
+        }
+        if (post.getCategory() != null) {
+            writer.message(POST_CATEGORY, writeReference(
+                    post.getCategory().getId(), post.getCategory().getName(), post.getCategory().getPostCount()));
+        }
+        if (post.getTags() != null) {
+            for (TagDto tag : post.getTags()) {
+                writer.message(POST_TAG, writeReference(tag.getId(), tag.getName(), tag.getPostCount()));
+            }
+        }
+        writer.sint(POST_READING_TIME, post.getReadingTime());
+        writer.timestamp(POST_CREATED_AT, post.getCreatedAt());
+        writer.timestamp(POST_UPDATED_AT, post.getUpdatedAt());
+        writer.string(POST_STATUS, post.getStatus() != null ? post.getStatus().name() : null);
+        writer.sint(POST_WORD_COUNT, post.getWordCount());
+        writer.sint(POST_CHARACTER_COUNT, post.getCharacterCount());
+        writer.uint(POST_VERSION, post.getVersion());
+
+        return writer.toByteArray();
+    }
+
+    @Override
+    public PostDto deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '{') {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 2 || bytes[0] != MAGIC) {
+            throw new SerializationException("Unknown cache value format");
+        }
+        if (bytes[1] > VERSION) {
+            throw new SerializationException("Unsupported binary post format version " + bytes[1]);
+        }
+
+        Reader reader = new Reader(bytes, 2, bytes.length);
+        PostDto post = new PostDto();
+        Set<TagDto> tags = new LinkedHashSet<>();
+        post.setTags(tags);
+
+        while (reader.hasRemaining()) {
+            int tag = reader.varint32();
+            switch (tag >>> 3) {
+                case POST_ID -> post.setId(reader.uuid());
+                case POST_TITLE -> post.setTitle(reader.string());
+                case POST_CONTENT -> post.setContent(reader.string());
+                case POST_CONTENT_DEFLATED -> post.setContent(inflate(reader));
+                case POST_AUTHOR -> post.setAuthor(readAuthor(reader.message()));
+                case POST_CATEGORY -> {
+                    Reader category = reader.message();
+                    CategoryDto dto = new CategoryDto();
+                    readReference(category, dto::setId, dto::setName, dto::setPostCount);
+                    post.setCategory(dto);
+                }
+                case POST_TAG -> {
+                    Reader tagReader = reader.message();
+                    TagDto dto = new TagDto();
+                    readReference(tagReader, dto::setId, dto::setName, dto::setPostCount);
+                    tags.add(dto);
+                }
+                case POST_READING_TIME -> post.setReadingTime(reader.sint());
+                case POST_CREATED_AT -> post.setCreatedAt(reader.timestamp());
+                case POST_UPDATED_AT -> post.setUpdatedAt(reader.timestamp());
+                case POST_STATUS -> post.setStatus(PostStatusEnum.valueOf(reader.string()));
+                case POST_WORD_COUNT -> post.setWordCount(reader.sint());
+                case POST_CHARACTER_COUNT -> post.setCharacterCount(reader.sint());
+                case POST_VERSION -> post.setVersion(reader.varint());
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+
+        return post;
+    }
+
+    private void writeContent(Writer writer, String content) {
+        if (content == null) {
+            return;
+        }
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= compressionThreshold) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                Writer compressed = new Writer(deflated.length + 5);
+                compressed.varint(raw.length);
+                compressed.raw(deflated);
+                writer.message(POST_CONTENT_DEFLATED, compressed);
+                return;
+            }
+        }
+
+        writer.bytes(POST_CONTENT, raw);
+    }
+
+    private static Writer writeAuthor(AuthorDto author) {
+        Writer writer = new Writer(32);
+        writer.uuid(REF_ID, author.getId());
+        writer.string(REF_NAME, author.getName());
+
+        return writer;
+    }
+
+    private static Writer writeReference(UUID id, String name, Integer postCount) {
+        Writer writer = new Writer(32);
+        writer.uuid(REF_ID, id);
+        writer.string(REF_NAME, name);
+        writer.sint(REF_POST_COUNT, postCount);
+
+        return writer;
+    }
+
+    private static AuthorDto readAuthor(Reader reader) {
+        AuthorDto author = new AuthorDto();
+        readReference(reader, author::setId, author::setName, ignored -> {
+        });
+
+        return author;
+    }
+
+    private static void readReference(Reader reader,
+                                      Consumer<UUID> id,
+                                      Consumer<String> name,
+                                      Consumer<Integer> postCount) {
+        while (reader.hasRemaining()) {
+            int tag = reader.varint32();
+            switch (tag >>> 3) {
+                case REF_ID -> id.accept(reader.uuid());
+                case REF_NAME -> name.accept(reader.string());
+                case REF_POST_COUNT -> postCount.accept(reader.sint());
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            byte[] buffer = new byte[raw.length];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            // not finished means the output would not be smaller than the input
+            return deflater.finished() ? Arrays.copyOf(buffer, length) : raw;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(Reader reader) {
+        Reader compressed = reader.message();
+        int length = compressed.varint32();
+        int compressedLength = compressed.limit - compressed.position;
+        if (length < 0 || length > MAX_CONTENT_BYTES || (long) length > (long) compressedLength * MAX_DEFLATE_RATIO) {
+            throw new SerializationException("Invalid post content length " + length + " in cache value");
+        }
+        byte[] raw = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.buffer, compressed.position, compressed.limit - compressed.position);
+            int inflated = 0;
+            while (inflated < length && !inflater.finished()) {
+                int count = inflater.inflate(raw, inflated, length - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != length) {
+                throw new SerializationException("Truncated post content in cache value");
+            }
+
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted post content in cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        private Writer(int size) {
+            super(size);
+        }
+
+        private void raw(byte value) {
+            write(value);
+        }
+
+        private void raw(byte[] value) {
+            write(value, 0, value.length);
+        }
+
+        private void tag(int field, int wireType) {
+            varint(field << 3 | wireType);
+        }
+
+        private void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void fixed64(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        private void sint(int field, Integer value) {
+            if (value != null) {
+                tag(field, WIRE_VARINT);
+                varint(Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+            }
+        }
+
+        private void uint(int field, Long value) {
+            if (value != null) {
+                tag(field, WIRE_VARINT);
+                varint(value);
+            }
+        }
+
+        private void uuid(int field, UUID value) {
+            if (value != null) {
+                tag(field, WIRE_FIXED128);
+                fixed64(value.getMostSignificantBits());
+                fixed64(value.getLeastSignificantBits());
+            }
+        }
+
+        private void timestamp(int field, LocalDateTime value) {
+            if (value != null) {
+                tag(field, WIRE_FIXED64);
+                fixed64(value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano());
+            }
+        }
+
+        private void string(int field, String value) {
+            if (value != null) {
+                bytes(field, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void bytes(int field, byte[] value) {
+            tag(field, WIRE_LENGTH_DELIMITED);
+            varint(value.length);
+            raw(value);
+        }
+
+        private void message(int field, Writer message) {
+            tag(field, WIRE_LENGTH_DELIMITED);
+            varint(message.count);
+            write(message.buf, 0, message.count);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        private Reader(byte[] buffer, int position, int limit) {
+            this.buffer = buffer;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        private boolean hasRemaining() {
+            return position < limit;
+        }
+
+        private byte next() {
+            if (position >= limit) {
+                throw new SerializationException("Truncated binary cache value");
+            }
+
+            return buffer[position++];
+        }
+
+        private long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new SerializationException("Malformed varint in binary cache value");
+        }
+
+        private int varint32() {
+            return (int) varint();
+        }
+
+        private int sint() {
+            int value = varint32();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long fixed64() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = value << 8 | (next() & 0xFF);
+            }
+
+            return value;
+        }
+
+        private UUID uuid() {
+            return new UUID(fixed64(), fixed64());
+        }
+
+        private LocalDateTime timestamp() {
+            long epochNanos = fixed64();
+            return LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(epochNanos, 1_000_000_000L),
+                    (int) Math.floorMod(epochNanos, 1_000_000_000L),
+                    ZoneOffset.UTC);
+        }
+
+        private int length() {
+            int length = varint32();
+            if (length < 0 || length > limit - position) {
+                throw new SerializationException("Truncated binary cache value");
+            }
+
+            return length;
+        }
+
+        private String string() {
+            int length = length();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+
+            return value;
+        }
+
+        private Reader message() {
+            int length = length();
+            Reader message = new Reader(buffer, position, position + length);
+            position += length;
+
+            return message;
+        }
+
+        private void skip(int wireType) {
+            switch (wireType) {
+                case WIRE_VARINT -> varint();
+                case WIRE_FIXED64 -> position += 8;
+                case WIRE_LENGTH_DELIMITED -> position += length();
+                case WIRE_FIXED128 -> position += 16;
+                default -> throw new SerializationException("Unknown wire type " + wireType);
+            }
+            if (position > limit) {
+                throw new SerializationException("Truncated binary cache value");
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.repository.PostRepository;
+import com.boris.springredisblueprint.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers whether a post id can exist without touching Redis or the database, so lookups
+ * of random or long-gone ids are rejected before they reach either.
+ * <p>
+ * Every node keeps a Bloom filter of all post ids, loaded from the database by
+ * {@link #rebuild()} and fed with new ids over pub/sub. Deleted ids cannot be removed from
+ * it until the next rebuild, so ids whose lookup found nothing are also remembered for a
+ * short time. Until the first rebuild has completed every id is allowed through.
+ */
+@Log4j2
+public class PostIdFilter implements MessageListener {
+    static final int REBUILD_PAGE_SIZE = 10_000;
+    // smallest uuid in PostgreSQL's byte order, where keyset paging over the ids starts
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final String channel;
+    private final long expectedPosts;
+    private final double falsePositiveRate;
+    private final Cache<UUID, Boolean> missingIds;
+    // replayed into a rebuilt filter, in case their transaction committed after the rebuild read past them
+    private final Cache<UUID, Boolean> recentlyAdded;
+
+    private volatile BloomFilter knownIds;
+    // receives ids added while a rebuild is reading the database
+    private BloomFilter rebuilding;
+
+    public PostIdFilter(PostRepository postRepository,
+                        StringRedisTemplate redisTemplate,
+                        String channel,
+                        long expectedPosts,
+                        double falsePositiveRate,
+                        Duration negativeTtl,
+                        long negativeMaximumSize) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.expectedPosts = expectedPosts;
+        this.falsePositiveRate = falsePositiveRate;
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        this.recentlyAdded = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build();
+    }
+
+    public boolean mightExist(UUID id) {
+        if (missingIds.getIfPresent(id) != null) {
+            return false;
+        }
+
+        BloomFilter filter = knownIds;
+        return filter == null || filter.mightContain(id.toString());
+    }
+
+    /**
+     * Registers a new post id. Called before the creating transaction commits, so other
+     * nodes already know the id when the post becomes readable.
+     */
+    public void add(UUID id) {
+        addLocal(id);
+
+        try {
+            redisTemplate.convertAndSend(channel, id.toString());
+        } catch (Exception e) {
+            // other nodes pick the id up on their next rebuild
+            log.warn("Failed to publish post id '{}': {}", id, e.getMessage());
+        }
+    }
+
+    public void markMissing(UUID id) {
+        missingIds.put(id, Boolean.TRUE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.version() == PostChangedEvent.DELETED) {
+            markMissing(event.postId());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    public void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedPosts, falsePositiveRate);
+        synchronized (this) {
+            rebuilding = rebuilt;
+        }
+
+        long count = 0;
+        try {
+            UUID after = FIRST_ID;
+            List<UUID> ids;
+            do {
+                ids = postRepository.findIdsAfter(after, Limit.of(REBUILD_PAGE_SIZE));
+                for (UUID id : ids) {
+                    rebuilt.add(id.toString());
+                }
+                count += ids.size();
+                if (!ids.isEmpty()) {
+                    after = ids.getLast();
+                }
+            } while (ids.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            recentlyAdded.asMap().keySet().forEach(id -> rebuilt.add(id.toString()));
+            knownIds = rebuilt;
+            rebuilding = null;
+        }
+        log.info("Rebuilt post id filter with {} ids", count);
+        if (count > expectedPosts) {
+            log.warn("{} posts exceed the {} the id filter is sized for, more unknown ids will reach the database",
+                    count, expectedPosts);
+        }
+    }
+
+    private synchronized void addLocal(UUID id) {
+        missingIds.invalidate(id);
+        recentlyAdded.put(id, Boolean.TRUE);
+        if (knownIds != null) {
+            knownIds.add(id.toString());
+        }
+        if (rebuilding != null) {
+            rebuilding.add(id.toString());
+        }
+    }
+}
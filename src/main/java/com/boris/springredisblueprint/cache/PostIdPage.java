@@ -0,0 +1,10 @@
+package com.boris.springredisblueprint.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cached result of a post listing query: the ids on the page plus the total element count.
+ */
+public record PostIdPage(List<UUID> ids, long totalElements) {
+}
@@ -0,0 +1,153 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.PostScope;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Caches the id pages produced by the published post listings.
+ * <p>
+ * Every listing key embeds the current generation of the scopes it depends on: the
+ * global generation for unfiltered listings and the category/tag generations for
+ * filtered ones. Bumping a generation makes all pages built from it unreachable, so
+ * a post change only invalidates the listings it can actually appear in.
+ * <p>
+ * Generations are bumped once the change has committed. Bumped earlier, a concurrent
+ * listing could still read the old rows and cache them under the new generation.
+ * <p>
+ * The pages themselves live in the {@link CacheNames#POST_LISTING_CACHE} cache, the
+ * generation counters are plain Redis strings next to it.
+ */
+@Log4j2
+@Component
+public class PostListingCache {
+    private static final String KEY_PREFIX = "post-listing:";
+    private static final String GLOBAL_GENERATION_KEY = KEY_PREFIX + "gen:all";
+    private static final String CATEGORY_GENERATION_PREFIX = KEY_PREFIX + "gen:category:";
+    private static final String TAG_GENERATION_PREFIX = KEY_PREFIX + "gen:tag:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache pageCache;
+
+    public PostListingCache(StringRedisTemplate stringRedisTemplate, CacheManager cacheManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pageCache = Objects.requireNonNull(cacheManager.getCache(CacheNames.POST_LISTING_CACHE),
+                "Cache '" + CacheNames.POST_LISTING_CACHE + "' is not registered");
+    }
+
+    /**
+     * Resolves the key of a listing page against the current generations.
+     *
+     * @return the key, or {@code null} when the listing cannot be cached
+     */
+    public String keyFor(UUID categoryId, UUID tagId, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return null;
+        }
+
+        List<String> generationKeys = new ArrayList<>(2);
+        if (categoryId == null && tagId == null) {
+            generationKeys.add(GLOBAL_GENERATION_KEY);
+        }
+        if (categoryId != null) {
+            generationKeys.add(CATEGORY_GENERATION_PREFIX + categoryId);
+        }
+        if (tagId != null) {
+            generationKeys.add(TAG_GENERATION_PREFIX + tagId);
+        }
+
+        try {
+            List<String> generations = stringRedisTemplate.opsForValue().multiGet(generationKeys);
+            String generation = generations == null ? "0" : generations.stream()
+                    .map(value -> value == null ? "0" : value)
+                    .reduce((left, right) -> left + "." + right)
+                    .orElse("0");
+
+            return "page:" + generation
+                    + ":" + categoryId
+                    + ":" + tagId
+                    + ":" + pageable.getPageNumber()
+                    + ":" + pageable.getPageSize()
+                    + ":" + pageable.getSort().toString().replace(" ", "");
+        } catch (Exception e) {
+            log.warn("Failed to resolve post listing generations, skipping cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public Optional<PostIdPage> get(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(pageCache.get(key, PostIdPage.class));
+        } catch (Exception e) {
+            log.warn("Failed to read post listing '{}' from cache: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, PostIdPage page) {
+        if (key == null) {
+            return;
+        }
+
+        try {
+            pageCache.put(key, page);
+        } catch (Exception e) {
+            log.warn("Failed to write post listing '{}' to cache: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Invalidates every listing in which a post with one of the given scopes can appear.
+     */
+    public void invalidate(PostScope... scopes) {
+        Set<String> generationKeys = new LinkedHashSet<>();
+        for (PostScope scope : scopes) {
+            if (scope == null || !scope.isPublished()) {
+                continue;
+            }
+
+            generationKeys.add(GLOBAL_GENERATION_KEY);
+            if (scope.categoryId() != null) {
+                generationKeys.add(CATEGORY_GENERATION_PREFIX + scope.categoryId());
+            }
+            scope.tagIds().forEach(tagId -> generationKeys.add(TAG_GENERATION_PREFIX + tagId));
+        }
+
+        if (generationKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                generationKeys.forEach(key -> connection.stringCommands().incr(key.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+            log.debug("Bumped post listing generations: {}", generationKeys);
+        } catch (Exception e) {
+            log.error("Failed to invalidate post listings {}: {}", generationKeys, e.getMessage());
+        }
+    }
+
+    // before ResourceVersions hands out the new version of the post listings
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.previousScope(), event.currentScope());
+    }
+}
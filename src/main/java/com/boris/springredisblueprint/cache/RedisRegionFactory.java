@@ -0,0 +1,93 @@
+package com.boris.springredisblueprint.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache on the application's Redis connection, so entity and query
+ * cache entries are shared by every node.
+ * <p>
+ * Each region is a single Redis hash. Hibernate evicts a whole entity region after every
+ * bulk update of that entity, which the published post counters do on each post write, so
+ * region eviction has to be one {@code DEL} rather than a key scan. Region hashes expire
+ * {@code ttl} after their last write. The update timestamps region never expires, since a
+ * missing timestamp would let stale query results through.
+ * <p>
+ * Registered as an instance through a {@code HibernatePropertiesCustomizer} rather than by
+ * class name, so it can use the Spring managed connection factory.
+ */
+public class RedisRegionFactory extends RegionFactoryTemplate {
+    static final String KEY_PREFIX = "hibernate:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public RedisRegionFactory(RedisConnectionFactory connectionFactory, Duration ttl) {
+        this(createTemplate(connectionFactory), ttl);
+    }
+
+    RedisRegionFactory(RedisTemplate<String, Object> redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // the connection factory is owned and started by Spring
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // the connection factory is owned and closed by Spring
+    }
+
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        // every entity has its own region, so the bare id is a unique key within it
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new RedisStorageAccess(redisTemplate, KEY_PREFIX + regionConfig.getRegionName(), ttl);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return new RedisStorageAccess(redisTemplate, KEY_PREFIX + regionName, ttl);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return new RedisStorageAccess(redisTemplate, KEY_PREFIX + regionName, null);
+    }
+
+    private static RedisTemplate<String, Object> createTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        // Hibernate's cache entries, soft locks and query results are all Serializable
+        template.setHashValueSerializer(new JdkSerializationRedisSerializer(RedisRegionFactory.class.getClassLoader()));
+        template.afterPropertiesSet();
+
+        return template;
+    }
+}
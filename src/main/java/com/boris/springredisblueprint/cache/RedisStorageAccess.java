@@ -0,0 +1,115 @@
+package com.boris.springredisblueprint.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.SerializationUtils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * One second-level cache region stored as a Redis hash. Redis failures are logged and
+ * treated as misses, so the database stays the fallback for every read.
+ */
+@Log4j2
+class RedisStorageAccess implements DomainDataStorageAccess {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final HashOperations<String, String, Object> hashOperations;
+    private final String key;
+    private final Duration ttl;
+
+    RedisStorageAccess(RedisTemplate<String, Object> redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.hashOperations = redisTemplate.opsForHash();
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        try {
+            return hashOperations.get(this.key, field(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} from {}: {}", key, this.key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        try {
+            hashOperations.put(this.key, field(key), value);
+            if (ttl != null) {
+                redisTemplate.expire(this.key, ttl);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} to {}: {}", key, this.key, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        try {
+            return hashOperations.hasKey(this.key, field(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to look up {} in {}: {}", key, this.key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        evictData(key);
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        evictData();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        try {
+            hashOperations.delete(this.key, field(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} from {}: {}", key, this.key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictData() {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void release() {
+        // entries are shared with other nodes and outlive this session factory
+    }
+
+    /**
+     * Entity ids and table names are used as they are. Query keys have no stable string
+     * form, so they are identified by the digest of their serialized form.
+     */
+    static String field(Object key) {
+        if (key instanceof String || key instanceof UUID || key instanceof Number) {
+            return key.toString();
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(SerializationUtils.serialize(key));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.boris.springredisblueprint.cache;
+
+/**
+ * Published by command services when categories or tags are created or deleted, so
+ * every node's {@link ReferenceDataIndex} reloads once the change is committed.
+ */
+public record ReferenceDataChangedEvent() {
+}
@@ -0,0 +1,135 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.entity.Tag;
+import com.boris.springredisblueprint.model.projection.CategoryPostCount;
+import com.boris.springredisblueprint.model.projection.TagPostCount;
+import com.boris.springredisblueprint.repository.CategoryRepository;
+import com.boris.springredisblueprint.repository.TagRepository;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory index of category and tag ids and names, so existence checks and
+ * name lookups on the post read and write paths need no database round-trip.
+ * <p>
+ * Both tables are small and rarely change, so every change replaces the whole snapshot
+ * atomically. Changes bump a version counter in Redis and announce it over pub/sub; a node
+ * reloads when it sees a version newer than its snapshot, and {@link #checkVersion()}
+ * catches up on missed messages.
+ * <p>
+ * Lookups return detached instances carrying only the id and name. They can be used as
+ * association targets and query parameters but must not be navigated to their posts.
+ */
+@Log4j2
+public class ReferenceDataIndex implements MessageListener {
+    static final String VERSION_KEY = "reference-data:version";
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final String channel;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    record Snapshot(long version, Map<UUID, String> categories, Map<UUID, String> tags) {
+        static final Snapshot EMPTY = new Snapshot(-1, Map.of(), Map.of());
+    }
+
+    public ReferenceDataIndex(CategoryRepository categoryRepository,
+                              TagRepository tagRepository,
+                              StringRedisTemplate redisTemplate,
+                              String channel) {
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public Optional<Category> findCategory(UUID id) {
+        String name = snapshot.get().categories().get(id);
+        return name == null
+                ? Optional.empty()
+                : Optional.of(Category.builder().id(id).name(name).build());
+    }
+
+    public Optional<Tag> findTag(UUID id) {
+        String name = snapshot.get().tags().get(id);
+        return name == null
+                ? Optional.empty()
+                : Optional.of(Tag.builder().id(id).name(name).build());
+    }
+
+    /**
+     * Reloads both tables. The version is read before loading, so a change committed
+     * during the load carries a newer version and triggers another reload.
+     */
+    public synchronized void refresh() {
+        long version = readVersion();
+        Map<UUID, String> categories = categoryRepository.findAllWithPostCount().stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryPostCount::getId, CategoryPostCount::getName));
+        Map<UUID, String> tags = tagRepository.findAllWithPostCount().stream()
+                .collect(Collectors.toUnmodifiableMap(TagPostCount::getId, TagPostCount::getName));
+
+        snapshot.set(new Snapshot(version, categories, tags));
+        log.info("Loaded reference data version {}: {} categories, {} tags", version, categories.size(), tags.size());
+    }
+
+    public void checkVersion() {
+        long version = readVersion();
+        if (version > snapshot.get().version()) {
+            log.info("Reference data version {} is newer than local {}", version, snapshot.get().version());
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        long version;
+        try {
+            version = redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (Exception e) {
+            // other nodes stay on their snapshot until the next successful change
+            log.warn("Failed to bump reference data version: {}", e.getMessage());
+            refresh();
+            return;
+        }
+
+        refresh();
+        try {
+            redisTemplate.convertAndSend(channel, String.valueOf(version));
+        } catch (Exception e) {
+            // the periodic version check picks the change up
+            log.warn("Failed to publish reference data version {}: {}", version, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        long version = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (version > snapshot.get().version()) {
+            refresh();
+        }
+    }
+
+    private long readVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            return version != null ? Long.parseLong(version) : 0;
+        } catch (Exception e) {
+            log.warn("Failed to read reference data version: {}", e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.boris.springredisblueprint.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Change counters of the collections served by the list endpoints, used as their entity
+ * tags so a conditional request is answered from one Redis read.
+ * <p>
+ * Counters are bumped once a change has committed, after the caches it affects were
+ * evicted. They start from the current time in microseconds and never go below it, so a
+ * counter recreated after its key was lost cannot repeat a value handed out before.
+ */
+@Log4j2
+@Component
+public class ResourceVersions {
+    static final String KEY_PREFIX = "resource-version:";
+
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                local version = redis.call('GET', key)
+                if version and tonumber(version) >= tonumber(ARGV[1]) then
+                    redis.call('INCR', key)
+                else
+                    redis.call('SET', key, ARGV[1])
+                end
+            end
+            return #KEYS
+            """, Long.class);
+
+    public enum Resource {
+        POSTS, TAGS, CATEGORIES
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ResourceVersions(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * Returns the current version of a collection, starting a counter if there is none.
+     *
+     * @return the version, or {@code null} when Redis is unavailable
+     */
+    public Long current(Resource resource) {
+        String key = keyOf(resource);
+        try {
+            String version = stringRedisTemplate.opsForValue().get(key);
+            if (version == null) {
+                stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(nowMicros()));
+                version = stringRedisTemplate.opsForValue().get(key);
+            }
+            return version != null ? Long.parseLong(version) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read version of {}: {}", resource, e.getMessage());
+            return null;
+        }
+    }
+
+    public void bump(Resource... resources) {
+        List<String> keys = Arrays.stream(resources).map(ResourceVersions::keyOf).toList();
+        try {
+            stringRedisTemplate.execute(BUMP_SCRIPT, keys, String.valueOf(nowMicros()));
+            log.debug("Bumped versions of {}", keys);
+        } catch (Exception e) {
+            log.error("Failed to bump versions of {}: {}", keys, e.getMessage());
+        }
+    }
+
+    // runs last, after PostCache, PostListingCache and ResponseBodyCache dropped the old
+    // copies; post changes also move the post counts shown in the tag and category lists
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        bump(Resource.values());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        bump(Resource.TAGS, Resource.CATEGORIES);
+    }
+
+    private static String keyOf(Resource resource) {
+        return KEY_PREFIX + resource.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static long nowMicros() {
+        return System.currentTimeMillis() * 1_000;
+    }
+}
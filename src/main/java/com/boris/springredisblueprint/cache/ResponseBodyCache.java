@@ -0,0 +1,187 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.PostDto;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Serialized response bodies of the hottest read endpoints, so a hit is written to the
+ * client as stored, without deserializing a DTO and serializing it again.
+ * <p>
+ * Bodies are produced by the same {@link JsonMapper} as regular responses and gzip
+ * compressed above {@code cache.response.gzip-threshold}. Post bodies are written against
+ * the version floor kept by {@link PostCache}, so they follow the same rules as the cached
+ * posts, and are evicted once a change of the post commits. List bodies live in caches
+ * evicted together with the list caches they are rendered from, and are only served
+ * while they are at least as new as the version the caller read.
+ */
+@Log4j2
+@Component
+public class ResponseBodyCache {
+    static final String LIST_KEY = "all";
+    private static final List<String> LIST_CACHES = List.of(
+            CacheNames.TAG_LIST_CACHE, CacheNames.TAG_LIST_RESPONSE_CACHE,
+            CacheNames.CATEGORY_LIST_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheManager cacheManager;
+    private final JsonMapper jsonMapper;
+    private final CacheAdmissionFilter admissionFilter;
+    @Getter
+    private final boolean enabled;
+    private final int gzipThreshold;
+    private final Cache postResponses;
+    private final String postKeyPrefix;
+    private final Duration postTtl;
+
+    public ResponseBodyCache(StringRedisTemplate stringRedisTemplate,
+                             CacheManager cacheManager,
+                             CacheRegistry cacheRegistry,
+                             JsonMapper jsonMapper,
+                             CacheAdmissionFilter admissionFilter,
+                             @Value("${cache.response.enabled}") boolean enabled,
+                             @Value("${cache.response.gzip-threshold}") int gzipThreshold) {
+        CacheSpec postSpec = cacheRegistry.get(CacheNames.POST_RESPONSE_CACHE);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheManager = cacheManager;
+        this.jsonMapper = jsonMapper;
+        this.admissionFilter = admissionFilter;
+        this.enabled = enabled;
+        this.gzipThreshold = gzipThreshold;
+        this.postResponses = requireCache(CacheNames.POST_RESPONSE_CACHE);
+        this.postKeyPrefix = postSpec.toRedisCacheConfiguration().getKeyPrefixFor(CacheNames.POST_RESPONSE_CACHE);
+        this.postTtl = postSpec.ttl();
+    }
+
+    /**
+     * Returns the cached body of a post, or renders the post returned by {@code loader} and
+     * caches its body if the post is read often enough.
+     */
+    public CachedResponseBody getPost(UUID id, Supplier<PostDto> loader) {
+        CachedResponseBody cachedBody = read(postResponses, id);
+        if (cachedBody != null) {
+            return cachedBody;
+        }
+
+        PostDto post = loader.get();
+        CachedResponseBody body = render(post, post.getVersion() != null ? post.getVersion() : 0);
+        if (admissionFilter.isFrequent(id)) {
+            writePost(post, body);
+        }
+        return body;
+    }
+
+    /**
+     * Returns the cached body of a list endpoint, or renders the list returned by
+     * {@code loader} and caches it. A cached body older than {@code version} counts as a
+     * miss: it was rendered before a change that already committed.
+     *
+     * @param version the version of the list read before calling {@code loader}, stored
+     *                with the body so its entity tag is never newer than its content
+     */
+    public CachedResponseBody getList(String cacheName, long version, Supplier<?> loader) {
+        Cache cache = requireCache(cacheName);
+        CachedResponseBody cachedBody = read(cache, LIST_KEY);
+        if (cachedBody != null && cachedBody.version() >= version) {
+            return cachedBody;
+        }
+
+        CachedResponseBody body = render(loader.get(), version);
+        try {
+            cache.put(LIST_KEY, body.toBytes());
+        } catch (Exception e) {
+            log.warn("Failed to write response body to '{}': {}", cacheName, e.getMessage());
+        }
+        return body;
+    }
+
+    // post changes also move the post counts shown in the tag and category lists
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            postResponses.evict(event.postId());
+        } catch (Exception e) {
+            log.error("Failed to evict response body of post '{}': {}", event.postId(), e.getMessage());
+        }
+        clearLists();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        clearLists();
+    }
+
+    /**
+     * Clears the tag and category lists and their bodies again once a change committed,
+     * before {@link ResourceVersions} hands out the new version. The {@code @CacheEvict}
+     * on the write runs before the commit, so a concurrent read could have cached the
+     * old lists again in between.
+     */
+    private void clearLists() {
+        for (String cacheName : LIST_CACHES) {
+            try {
+                requireCache(cacheName).clear();
+            } catch (Exception e) {
+                log.error("Failed to clear '{}': {}", cacheName, e.getMessage());
+            }
+        }
+    }
+
+    private CachedResponseBody render(Object value, long version) {
+        return CachedResponseBody.of(jsonMapper.writeValueAsBytes(value), version, gzipThreshold);
+    }
+
+    private void writePost(PostDto post, CachedResponseBody body) {
+        try {
+            stringRedisTemplate.execute(PostCache.PUT_SCRIPT,
+                    RedisSerializer.byteArray(),
+                    new GenericToStringSerializer<>(Long.class),
+                    List.of(postKeyPrefix + post.getId(), PostCache.VERSION_KEY_PREFIX + post.getId()),
+                    bytes(String.valueOf(body.version())),
+                    body.toBytes(),
+                    bytes(String.valueOf(postTtl.toMillis())));
+        } catch (Exception e) {
+            log.warn("Failed to write response body of post '{}': {}", post.getId(), e.getMessage());
+        }
+    }
+
+    private static CachedResponseBody read(Cache cache, Object key) {
+        try {
+            byte[] bytes = cache.get(key, byte[].class);
+            return bytes != null ? CachedResponseBody.fromBytes(bytes) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read response body '{}' from '{}': {}", key, cache.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Cache requireCache(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName),
+                "Cache '" + cacheName + "' is not registered");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,140 @@
+package com.boris.springredisblueprint.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@link Cache} that keeps a bounded in-process copy (L1) of the entries held by a
+ * shared Redis cache (L2).
+ * <p>
+ * Reads are served from the local tier first and fall back to Redis. Writes and
+ * evictions go to both tiers and are broadcast through the {@link CacheInvalidationBus}
+ * so other nodes drop their local copies.
+ */
+public class TwoTierCache implements Cache {
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoTierCache(Cache redisCache,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        CacheInvalidationBus invalidationBus) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            return new SimpleValueWrapper(fromStoreValue(localValue));
+        }
+
+        ValueWrapper remoteValue = redisCache.get(key);
+        if (remoteValue != null) {
+            localCache.put(localKey, toStoreValue(remoteValue.get()));
+        }
+
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Caffeine computes at most once per key, so concurrent local misses share one Redis lookup
+        Object value = localCache.get(toLocalKey(key),
+                localKey -> toStoreValue(redisCache.get(key, valueLoader)));
+
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        redisCache.put(key, value);
+        localCache.put(localKey, toStoreValue(value));
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        redisCache.evict(key);
+        localCache.invalidate(localKey);
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationBus.publishClear(getName());
+    }
+
+    /**
+     * Drops the local copies of an entry on every node but keeps the Redis one, for
+     * entries that were just rewritten in Redis directly.
+     */
+    void invalidateLocal(Object key) {
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    Object getLocal(Object key) {
+        return fromStoreValue(localCache.getIfPresent(toLocalKey(key)));
+    }
+
+    void putLocal(Object key, Object value) {
+        localCache.put(toLocalKey(key), toStoreValue(value));
+    }
+
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+}
@@ -0,0 +1,60 @@
+package com.boris.springredisblueprint.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Composite {@link org.springframework.cache.CacheManager} that puts a per-JVM
+ * near cache in front of the caches created by a {@link RedisCacheManager}.
+ * <p>
+ * Only the caches listed in {@code nearCacheNames} get a local tier, every other
+ * cache is handed out as the plain Redis cache.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+    private final RedisCacheManager redisCacheManager;
+    private final Set<String> nearCacheNames;
+    private final Caffeine<Object, Object> nearCacheBuilder;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               Set<String> nearCacheNames,
+                               Caffeine<Object, Object> nearCacheBuilder,
+                               CacheInvalidationBus invalidationBus) {
+        this.redisCacheManager = redisCacheManager;
+        this.nearCacheNames = nearCacheNames;
+        this.nearCacheBuilder = nearCacheBuilder;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return redisCacheManager.getCacheNames().stream()
+                .map(redisCacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(this::withNearCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        return redisCache != null ? withNearCache(redisCache) : null;
+    }
+
+    private Cache withNearCache(Cache redisCache) {
+        if (!nearCacheNames.contains(redisCache.getName())) {
+            return redisCache;
+        }
+
+        TwoTierCache cache = new TwoTierCache(redisCache, nearCacheBuilder.build(), invalidationBus);
+        invalidationBus.register(cache);
+
+        return cache;
+    }
+}
@@ -1,31 +1,254 @@
 package com.boris.springredisblueprint.config;
 
+import com.boris.springredisblueprint.cache.*;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
+import com.boris.springredisblueprint.repository.CategoryRepository;
+import com.boris.springredisblueprint.repository.PostRepository;
+import com.boris.springredisblueprint.repository.TagRepository;
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.type.TypeFactory;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
+    private final TypeFactory typeFactory = JsonMapper.builder().build().getTypeFactory();
+
+    @Value("${cache.near.maximum-size}")
+    private long nearCacheMaximumSize;
+
+    @Value("${cache.near.expire-after-write}")
+    private Duration nearCacheExpireAfterWrite;
+
+    @Value("${cache.invalidation.channel}")
+    private String invalidationChannel;
+
+    @Value("${cache.post.ttl}")
+    private Duration postCacheTtl;
+
+    @Value("${cache.post.id-filter.channel}")
+    private String postIdFilterChannel;
+
+    @Value("${cache.post.id-filter.expected-posts}")
+    private long postIdFilterExpectedPosts;
+
+    @Value("${cache.post.id-filter.false-positive-rate}")
+    private double postIdFilterFalsePositiveRate;
+
+    @Value("${cache.post.negative.ttl}")
+    private Duration postNegativeTtl;
+
+    @Value("${cache.post.negative.maximum-size}")
+    private long postNegativeMaximumSize;
+
+    @Value("${cache.post.admission.expected-keys}")
+    private int postAdmissionExpectedKeys;
+
+    @Value("${cache.post.admission.min-frequency}")
+    private int postAdmissionMinFrequency;
+
+    @Value("${cache.post.serialization-format}")
+    private String postSerializationFormat;
+
+    @Value("${cache.post.compression-threshold}")
+    private int postCompressionThreshold;
+
+    @Value("${cache.post-listing.ttl}")
+    private Duration postListingCacheTtl;
+
+    @Value("${cache.reference-lists.ttl}")
+    private Duration referenceListsCacheTtl;
+
+    @Value("${cache.reference-data.channel}")
+    private String referenceDataChannel;
+
+    @Value("${cache.hibernate.enabled}")
+    private boolean hibernateCacheEnabled;
+
+    @Value("${cache.hibernate.ttl}")
+    private Duration hibernateCacheTtl;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
-                .disableCachingNullValues()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new JacksonJsonRedisSerializer<>(PostDto.class)));
+    public CacheRegistry cacheRegistry() {
+        JavaType postType = typeFactory.constructType(PostDto.class);
+        JavaType postIdPageType = typeFactory.constructType(PostIdPage.class);
+        JavaType tagListType = typeFactory.constructCollectionType(List.class, TagDto.class);
+        JavaType categoryListType = typeFactory.constructCollectionType(List.class, CategoryDto.class);
+        JavaType responseBodyType = typeFactory.constructType(byte[].class);
+
+        return new CacheRegistry(List.of(
+                CacheSpec.builder()
+                        .name(CacheNames.POST_CACHE)
+                        .valueType(postType)
+                        .ttl(postCacheTtl)
+                        .serializer(postSerializer(postType))
+                        .nearCache(true)
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.POST_LISTING_CACHE)
+                        .valueType(postIdPageType)
+                        .ttl(postListingCacheTtl)
+                        .serializer(new JacksonJsonRedisSerializer<PostIdPage>(postIdPageType))
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.TAG_LIST_CACHE)
+                        .valueType(tagListType)
+                        .ttl(referenceListsCacheTtl)
+                        .serializer(new JacksonJsonRedisSerializer<List<TagDto>>(tagListType))
+                        .nearCache(true)
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.CATEGORY_LIST_CACHE)
+                        .valueType(categoryListType)
+                        .ttl(referenceListsCacheTtl)
+                        .serializer(new JacksonJsonRedisSerializer<List<CategoryDto>>(categoryListType))
+                        .nearCache(true)
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.POST_RESPONSE_CACHE)
+                        .valueType(responseBodyType)
+                        .ttl(postCacheTtl)
+                        .serializer(RedisSerializer.byteArray())
+                        .nearCache(true)
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.TAG_LIST_RESPONSE_CACHE)
+                        .valueType(responseBodyType)
+                        .ttl(referenceListsCacheTtl)
+                        .serializer(RedisSerializer.byteArray())
+                        .nearCache(true)
+                        .build(),
+                CacheSpec.builder()
+                        .name(CacheNames.CATEGORY_LIST_RESPONSE_CACHE)
+                        .valueType(responseBodyType)
+                        .ttl(referenceListsCacheTtl)
+                        .serializer(RedisSerializer.byteArray())
+                        .nearCache(true)
+                        .build()
+        ));
+    }
+
+    @Bean
+    public CacheNameValidator cacheNameValidator(ConfigurableListableBeanFactory beanFactory,
+                                                 CacheRegistry cacheRegistry) {
+        return new CacheNameValidator(beanFactory, cacheRegistry);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBus(stringRedisTemplate, invalidationChannel);
+    }
 
-        return RedisCacheManager
-                .builder(connectionFactory)
-                .cacheDefaults(cacheConfiguration)
+    @Bean
+    public ReferenceDataIndex referenceDataIndex(CategoryRepository categoryRepository,
+                                                 TagRepository tagRepository,
+                                                 StringRedisTemplate stringRedisTemplate) {
+        return new ReferenceDataIndex(categoryRepository, tagRepository, stringRedisTemplate, referenceDataChannel);
+    }
+
+    @Bean
+    public CacheAdmissionFilter postCacheAdmissionFilter(MeterRegistry meterRegistry) {
+        return new CacheAdmissionFilter(CacheNames.POST_CACHE, postAdmissionExpectedKeys,
+                postAdmissionMinFrequency, meterRegistry);
+    }
+
+    @Bean
+    public PostIdFilter postIdFilter(PostRepository postRepository, StringRedisTemplate stringRedisTemplate) {
+        return new PostIdFilter(postRepository, stringRedisTemplate, postIdFilterChannel,
+                postIdFilterExpectedPosts, postIdFilterFalsePositiveRate, postNegativeTtl, postNegativeMaximumSize);
+    }
+
+    @Bean
+    public RedisRegionFactory redisRegionFactory(RedisConnectionFactory connectionFactory) {
+        return new RedisRegionFactory(connectionFactory, hibernateCacheTtl);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(RedisRegionFactory redisRegionFactory) {
+        return properties -> {
+            if (!hibernateCacheEnabled) {
+                return;
+            }
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, redisRegionFactory);
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            // per-region hit/miss counts, exported as hibernate.second.level.cache.* metrics
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus cacheInvalidationBus,
+            TokenRevocationList tokenRevocationList,
+            ReferenceDataIndex referenceDataIndex,
+            PostIdFilter postIdFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(invalidationChannel));
+        container.addMessageListener(tokenRevocationList, new ChannelTopic(tokenRevocationList.getChannel()));
+        container.addMessageListener(referenceDataIndex, new ChannelTopic(referenceDataChannel));
+        container.addMessageListener(postIdFilter, new ChannelTopic(postIdFilterChannel));
+
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheRegistry cacheRegistry,
+                                     CacheInvalidationBus cacheInvalidationBus) {
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .builder(cacheWriter)
+                .withInitialCacheConfigurations(cacheRegistry.redisCacheConfigurations())
+                .disableCreateOnMissingCache()
                 .build();
+        redisCacheManager.initializeCaches();
+
+        Caffeine<Object, Object> nearCacheBuilder = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheExpireAfterWrite);
+
+        return new TwoTierCacheManager(
+                redisCacheManager, cacheRegistry.nearCacheNames(), nearCacheBuilder, cacheInvalidationBus);
+    }
+
+    private RedisSerializer<PostDto> postSerializer(JavaType postType) {
+        RedisSerializer<PostDto> jsonSerializer = new JacksonJsonRedisSerializer<>(postType);
+
+        return switch (postSerializationFormat) {
+            case "json" -> jsonSerializer;
+            case "binary" -> new PostDtoBinarySerializer(jsonSerializer, postCompressionThreshold);
+            default -> throw new IllegalArgumentException(
+                    "Unknown post cache serialization format: " + postSerializationFormat);
+        };
     }
 }
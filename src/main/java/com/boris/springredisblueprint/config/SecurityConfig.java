@@ -4,9 +4,17 @@ import com.boris.springredisblueprint.model.entity.User;
 import com.boris.springredisblueprint.repository.UserRepository;
 import com.boris.springredisblueprint.security.BlogUserDetailsService;
 import com.boris.springredisblueprint.security.JwtAuthenticationFilter;
+import com.boris.springredisblueprint.security.JwtKeyRing;
+import com.boris.springredisblueprint.security.LoginRateLimiter;
+import com.boris.springredisblueprint.security.PasswordHashingExecutor;
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import com.boris.springredisblueprint.security.VerifiedTokenCache;
 import com.boris.springredisblueprint.service.AuthenticationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -19,6 +27,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class SecurityConfig {
     @Bean
@@ -26,6 +37,45 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(authenticationService);
     }
 
+    @Bean
+    public JwtKeyRing jwtKeyRing(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.previous-secrets:}") List<String> previousSecrets) {
+        return new JwtKeyRing(secret, previousSecrets);
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(
+            @Value("${jwt.verified-token-cache.maximum-size}") long maximumSize) {
+        return new VerifiedTokenCache(maximumSize);
+    }
+
+    @Bean
+    public TokenRevocationList tokenRevocationList(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${jwt.revocation.channel}") String channel,
+            @Value("${jwt.revocation.expected-revocations}") long expectedRevocations,
+            @Value("${jwt.revocation.false-positive-rate}") double falsePositiveRate) {
+        return new TokenRevocationList(stringRedisTemplate, channel, expectedRevocations, falsePositiveRate);
+    }
+
+    @Bean
+    public LoginRateLimiter loginRateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${login.rate-limit.window}") Duration window,
+            @Value("${login.rate-limit.max-attempts-per-email}") int maxAttemptsPerEmail,
+            @Value("${login.rate-limit.max-attempts-per-client}") int maxAttemptsPerClient) {
+        return new LoginRateLimiter(stringRedisTemplate, window, maxAttemptsPerEmail, maxAttemptsPerClient);
+    }
+
+    @Bean
+    public PasswordHashingExecutor passwordHashingExecutor(
+            @Value("${login.password-hashing.threads}") int threads,
+            @Value("${login.password-hashing.queue-capacity}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        return new PasswordHashingExecutor(threads, queueCapacity, meterRegistry);
+    }
+
     @Bean
     public UserDetailsService userDetailsService(UserRepository userRepository) {
         BlogUserDetailsService blogUserDetailsService = new BlogUserDetailsService(userRepository);
@@ -55,6 +105,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .anyRequest().authenticated()
                 )
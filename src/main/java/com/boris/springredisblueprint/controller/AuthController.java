@@ -3,37 +3,47 @@ package com.boris.springredisblueprint.controller;
 import com.boris.springredisblueprint.model.dto.ApiErrorResponse;
 import com.boris.springredisblueprint.model.dto.AuthResponse;
 import com.boris.springredisblueprint.model.dto.LoginRequest;
+import com.boris.springredisblueprint.security.LoginRateLimiter;
 import com.boris.springredisblueprint.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
-@RequestMapping(path = "/api/v1/auth/login")
+@RequestMapping(path = "/api/v1/auth")
 @RequiredArgsConstructor
 @Tag(name = "Authentication", description = "Login and token management")
 public class AuthController {
     private final AuthenticationService authenticationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Operation(summary = "Login", description = "Authenticate with email and password to receive a JWT bearer token")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successfully authenticated",
                     content = @Content(schema = @Schema(implementation = AuthResponse.class))),
             @ApiResponse(responseCode = "401", description = "Invalid credentials",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts for this email or client",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Login temporarily overloaded",
                     content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     })
-    @PostMapping
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest loginRequest) {
+    @PostMapping(path = "/login")
+    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest loginRequest,
+                                              @Parameter(hidden = true) HttpServletRequest request) {
+        loginRateLimiter.acquire(loginRequest.getEmail(), request.getRemoteAddr());
+
         UserDetails userDetails = authenticationService.authenticate(
                 loginRequest.getEmail(),
                 loginRequest.getPassword()
@@ -47,4 +57,20 @@ public class AuthController {
 
         return ResponseEntity.ok(authResponse);
     }
+
+    @Operation(summary = "Logout", description = "Revokes the bearer token used for this request until it expires")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Token revoked"),
+            @ApiResponse(responseCode = "401", description = "Authentication required",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(path = "/logout")
+    public ResponseEntity<Void> logout(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization
+    ) {
+        authenticationService.revokeToken(authorization.substring("Bearer ".length()));
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,44 @@
+package com.boris.springredisblueprint.controller;
+
+import com.boris.springredisblueprint.cache.CachedResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Turns a {@link CachedResponseBody} into a response whose bytes are written as stored,
+ * tagged with the version the body was rendered from.
+ */
+final class CachedResponses {
+
+    private CachedResponses() {
+    }
+
+    static ResponseEntity<byte[]> ok(CachedResponseBody body, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ETags.ok(body.version())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!body.gzipped()) {
+            return response.body(body.body());
+        }
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.body());
+        }
+        return response.body(body.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,8 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ResourceVersions;
+import com.boris.springredisblueprint.cache.ResponseBodyCache;
 import com.boris.springredisblueprint.mapper.CategoryMapper;
 import com.boris.springredisblueprint.model.dto.ApiErrorResponse;
 import com.boris.springredisblueprint.model.dto.CategoryDto;
@@ -9,6 +12,7 @@ import com.boris.springredisblueprint.service.command.CategoryCommandService;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,18 +39,34 @@ public class CategoryController {
     private final CategoryCommandService categoryCommandService;
     private final CategoryQueryService categoryQueryService;
     private final CategoryMapper categoryMapper;
+    private final ResponseBodyCache responseBodyCache;
+    private final ResourceVersions resourceVersions;
 
     @Operation(summary = "Get all categories", description = "Returns a list of all available categories")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CategoryDto.class)))),
+            @ApiResponse(responseCode = "304", description = "Categories not modified since the given ETag")
     })
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
+    public ResponseEntity<?> getAllCategories(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         log.info("GET /api/v1/categories");
+        Long version = resourceVersions.current(ResourceVersions.Resource.CATEGORIES);
+        if (ETags.matches(ifNoneMatch, version)) {
+            return ETags.notModified(version);
+        }
+        if (version != null && responseBodyCache.isEnabled()) {
+            return CachedResponses.ok(responseBodyCache.getList(
+                    CacheNames.CATEGORY_LIST_RESPONSE_CACHE, version, categoryQueryService::getAllCategories), acceptEncoding);
+        }
+
         List<CategoryDto> categories = categoryQueryService.getAllCategories();
 
         log.debug("Returning {} categories", categories.size());
-        return ResponseEntity.ok(categories);
+        return ETags.ok(version).body(categories);
     }
 
     @Operation(summary = "Create a category", description = "Creates a new category")
@@ -0,0 +1,46 @@
+package com.boris.springredisblueprint.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Weak entity tags built from resource versions. They are weak because the gzip and
+ * identity encodings of a body share the same tag.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lists the tag of {@code version}, using the
+     * weak comparison required for GET.
+     */
+    static boolean matches(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || version == null) {
+            return false;
+        }
+
+        String opaqueTag = "\"" + version + "\"";
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(of(version)).build();
+    }
+
+    static ResponseEntity.BodyBuilder ok(Long version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        return version != null ? response.eTag(of(version)) : response;
+    }
+}
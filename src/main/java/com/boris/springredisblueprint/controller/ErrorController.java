@@ -1,8 +1,12 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.exception.LoginThrottledException;
+import com.boris.springredisblueprint.exception.PostNotFoundException;
 import com.boris.springredisblueprint.model.dto.ApiErrorResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -11,6 +15,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @Log4j2
 @RestController
 @ControllerAdvice
@@ -48,6 +54,17 @@ public class ErrorController {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailureException(Exception e) {
+        log.warn("Caught exception: {}", e.getMessage());
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .message("The resource was modified concurrently, reload it and try again.")
+                .build();
+
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ApiErrorResponse> handeMethodArgumentTypeMismatchException(Exception e) {
         log.error("Caught exception: ", e);
@@ -80,4 +97,42 @@ public class ErrorController {
 
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(PostNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handlePostNotFoundException(Exception e) {
+        log.debug("Caught exception: {}", e.getMessage());
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .message(e.getMessage())
+                .build();
+
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ApiErrorResponse> handleLoginThrottledException(LoginThrottledException e) {
+        log.warn("Caught exception: {}", e.getMessage());
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        // Retry-After is in whole seconds, round up so clients never retry too early
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfter().toMillis() + 999) / 1000));
+        return new ResponseEntity<>(error, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecutionException(Exception e) {
+        log.warn("Caught exception: {}", e.getMessage());
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("The service is busy, try again later.")
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(error, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
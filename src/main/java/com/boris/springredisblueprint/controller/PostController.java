@@ -1,11 +1,15 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.ResourceVersions;
+import com.boris.springredisblueprint.cache.ResponseBodyCache;
 import com.boris.springredisblueprint.mapper.PostMapper;
 import com.boris.springredisblueprint.model.CreatePostRequest;
 import com.boris.springredisblueprint.model.UpdatePostRequest;
 import com.boris.springredisblueprint.model.dto.ApiErrorResponse;
 import com.boris.springredisblueprint.model.dto.CreatePostRequestDto;
+import com.boris.springredisblueprint.model.dto.CursorSliceDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
 import com.boris.springredisblueprint.model.dto.UpdatePostRequestDto;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.User;
@@ -25,10 +29,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Log4j2
@@ -41,47 +48,107 @@ public class PostController {
     private final PostCommandService postCommandService;
     private final PostMapper postMapper;
     private final UserService userService;
+    private final ResponseBodyCache responseBodyCache;
+    private final ResourceVersions resourceVersions;
 
-    @Operation(summary = "Get all posts", description = "Returns a paginated list of published posts, optionally filtered by category or tag")
+    @Operation(summary = "Get all posts", description = "Returns a paginated list of published post summaries, optionally filtered by category or tag. Summaries carry an excerpt instead of the content")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Posts retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Posts retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "No post changed since the given ETag")
     })
     @GetMapping
-    public ResponseEntity<Page<PostDto>> getAllPosts(
+    public ResponseEntity<Page<PostSummaryDto>> getAllPosts(
             @Parameter(description = "Filter by category ID") @RequestParam(required = false) UUID categoryId,
             @Parameter(description = "Filter by tag ID") @RequestParam(required = false) UUID tagId,
-            Pageable pageable
+            Pageable pageable,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("GET /api/v1/posts - categoryId: {}, tagId: {}, page: {}",
                 categoryId, tagId, pageable.getPageNumber());
+        // read before the listing: a change bumps this only after the listings and posts it
+        // affects were invalidated, so the tag is never newer than the page it is sent with
+        Long version = resourceVersions.current(ResourceVersions.Resource.POSTS);
+        if (ETags.matches(ifNoneMatch, version)) {
+            return ETags.notModified(version);
+        }
 
-        Page<PostDto> posts = postQueryService.getAllPosts(categoryId, tagId, pageable);
+        Page<PostSummaryDto> posts = postQueryService.getAllPosts(categoryId, tagId, pageable);
 
         logPageResult("posts", posts);
-        return ResponseEntity.ok(posts);
+        return ETags.ok(version).body(posts);
+    }
+
+    @Operation(summary = "Get the post feed", description = "Returns published posts newest first using cursor pagination, optionally filtered by category")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Feed page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @GetMapping(path = "/feed")
+    public ResponseEntity<CursorSliceDto<PostDto>> getFeed(
+            @Parameter(description = "Filter by category ID") @RequestParam(required = false) UUID categoryId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of posts per page (1-100)") @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/v1/posts/feed - categoryId: {}, size: {}", categoryId, size);
+
+        CursorSliceDto<PostDto> feed = postQueryService.getFeed(categoryId, cursor, size);
+
+        log.debug("Returning {} feed posts (hasNext: {})", feed.getSize(), feed.isHasNext());
+        return ResponseEntity.ok(feed);
     }
 
     @Operation(summary = "Get a post by ID", description = "Returns a single published post by its UUID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Post found",
                     content = @Content(schema = @Schema(implementation = PostDto.class))),
+            @ApiResponse(responseCode = "304", description = "Post not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Post not found",
                     content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     })
     @GetMapping(path = "/{id}")
-    public ResponseEntity<PostDto> getPost(
-            @Parameter(description = "UUID of the post to retrieve") @PathVariable UUID id
+    public ResponseEntity<?> getPost(
+            @Parameter(description = "UUID of the post to retrieve") @PathVariable UUID id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         log.info("GET /api/v1/posts/{}", id);
+        if (ifNoneMatch != null) {
+            Optional<Long> version = postQueryService.getPostVersion(id);
+            if (version.isPresent() && ETags.matches(ifNoneMatch, version.get())) {
+                return ETags.notModified(version.get());
+            }
+        }
+        if (responseBodyCache.isEnabled()) {
+            return CachedResponses.ok(responseBodyCache.getPost(id, () -> postQueryService.getPost(id)), acceptEncoding);
+        }
+
         PostDto postDto = postQueryService.getPost(id);
 
         log.debug("Returning post - title: '{}', id: '{}'",
                 postDto.getTitle(), postDto.getId());
 
-        return ResponseEntity.ok(postDto);
+        return ETags.ok(postDto.getVersion()).body(postDto);
     }
 
-    @Operation(summary = "Get draft posts", description = "Returns a paginated list of draft posts belonging to the authenticated user")
+    @Operation(summary = "Get posts by ID", description = "Returns up to 100 posts in the order of the given UUIDs, posts that do not exist are left out")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Posts retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many ids",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @GetMapping(path = "/batch")
+    public ResponseEntity<List<PostDto>> getPosts(
+            @Parameter(description = "Comma separated UUIDs of the posts to retrieve") @RequestParam List<UUID> ids
+    ) {
+        log.info("GET /api/v1/posts/batch - ids: {}", ids.size());
+        List<PostDto> posts = postQueryService.getPosts(ids);
+
+        log.debug("Returning {} of {} requested posts", posts.size(), ids.size());
+        return ResponseEntity.ok(posts);
+    }
+
+    @Operation(summary = "Get draft posts", description = "Returns a paginated list of summaries of the draft posts belonging to the authenticated user")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Draft posts retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Authentication required",
@@ -89,15 +156,15 @@ public class PostController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping(path = "/drafts")
-    public ResponseEntity<Page<PostDto>> getDrafts(
+    public ResponseEntity<Page<PostSummaryDto>> getDrafts(
             @Parameter(hidden = true) @RequestAttribute UUID userId,
             Pageable pageable
     ) {
         log.info("GET /api/v1/posts/drafts - userId: {}, page: {}",
                 userId, pageable.getPageNumber());
 
-        User loggedInUser = userService.getUserById(userId);
-        Page<PostDto> draftPosts = postQueryService.getDraftPosts(loggedInUser, pageable);
+        User loggedInUser = userService.getUserReference(userId);
+        Page<PostSummaryDto> draftPosts = postQueryService.getDraftPosts(loggedInUser, pageable);
 
         logPageResult("draft posts", draftPosts);
         return ResponseEntity.ok(draftPosts);
@@ -110,6 +177,8 @@ public class PostController {
             @ApiResponse(responseCode = "400", description = "Invalid request body",
                     content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Authentication required",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Authenticated user no longer exists",
                     content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
     })
     @SecurityRequirement(name = "bearerAuth")
@@ -121,6 +190,8 @@ public class PostController {
         log.info("POST /api/v1/posts - title: '{}', userId: {}",
                 createPostRequestDTO.getTitle(), userId);
 
+        // Load the author rather than a reference: a token can outlive its user, and a
+        // dangling reference would only fail as a foreign key violation on insert
         User loggedInUser = userService.getUserById(userId);
         CreatePostRequest createPostRequest = postMapper.toCreatePostRequest(createPostRequestDTO);
 
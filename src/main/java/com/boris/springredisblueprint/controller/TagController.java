@@ -1,5 +1,8 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ResourceVersions;
+import com.boris.springredisblueprint.cache.ResponseBodyCache;
 import com.boris.springredisblueprint.mapper.TagMapper;
 import com.boris.springredisblueprint.model.dto.ApiErrorResponse;
 import com.boris.springredisblueprint.model.dto.CreateTagsRequestDto;
@@ -9,6 +12,7 @@ import com.boris.springredisblueprint.service.command.TagCommandService;
 import com.boris.springredisblueprint.service.query.TagQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,18 +37,34 @@ public class TagController {
     private final TagCommandService tagCommandService;
     private final TagQueryService tagQueryService;
     private final TagMapper tagMapper;
+    private final ResponseBodyCache responseBodyCache;
+    private final ResourceVersions resourceVersions;
 
     @Operation(summary = "Get all tags", description = "Returns a list of all available tags")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TagDto.class)))),
+            @ApiResponse(responseCode = "304", description = "Tags not modified since the given ETag")
     })
     @GetMapping
-    public ResponseEntity<List<TagDto>> getAllTags() {
+    public ResponseEntity<?> getAllTags(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         log.info("GET /api/v1/tags");
+        Long version = resourceVersions.current(ResourceVersions.Resource.TAGS);
+        if (ETags.matches(ifNoneMatch, version)) {
+            return ETags.notModified(version);
+        }
+        if (version != null && responseBodyCache.isEnabled()) {
+            return CachedResponses.ok(responseBodyCache.getList(
+                    CacheNames.TAG_LIST_RESPONSE_CACHE, version, tagQueryService::getTags), acceptEncoding);
+        }
+
         List<TagDto> tags = tagQueryService.getTags();
 
         log.debug("Returning {} tags", tags.size());
-        return ResponseEntity.ok(tags);
+        return ETags.ok(version).body(tags);
     }
 
     @Operation(summary = "Create tags", description = "Creates one or more new tags from a list of names")
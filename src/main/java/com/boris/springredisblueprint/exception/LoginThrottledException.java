@@ -0,0 +1,15 @@
+package com.boris.springredisblueprint.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
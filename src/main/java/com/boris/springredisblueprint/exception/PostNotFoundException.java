@@ -19,4 +19,10 @@ public class PostNotFoundException extends ContentException {
     public PostNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
     }
+
+    // thrown for every lookup of an unknown id, the stack trace would never be read
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
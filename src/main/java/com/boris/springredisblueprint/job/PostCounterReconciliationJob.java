@@ -0,0 +1,29 @@
+package com.boris.springredisblueprint.job;
+
+import com.boris.springredisblueprint.cache.ResourceVersions;
+import com.boris.springredisblueprint.service.command.PostCounterCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically repairs published post counters that drifted from the posts table,
+ * for example after a manual data fix or a failed deployment.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciliationJob {
+    private final PostCounterCommandService postCounterCommandService;
+    private final ResourceVersions resourceVersions;
+
+    @Scheduled(cron = "${counters.reconciliation.cron}")
+    public void reconcile() {
+        log.info("Reconciling published post counters");
+        // reconcile has committed by now, so the lists showing the counters can be revalidated
+        if (postCounterCommandService.reconcile() > 0) {
+            resourceVersions.bump(ResourceVersions.Resource.TAGS, ResourceVersions.Resource.CATEGORIES);
+        }
+    }
+}
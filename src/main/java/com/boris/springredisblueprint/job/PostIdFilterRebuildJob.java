@@ -0,0 +1,35 @@
+package com.boris.springredisblueprint.job;
+
+import com.boris.springredisblueprint.cache.PostIdFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the post id filter on startup and periodically rebuilds it, dropping deleted ids
+ * and picking up ids whose announcement this node missed.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PostIdFilterRebuildJob {
+    private final PostIdFilter postIdFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${cache.post.id-filter.rebuild.cron}")
+    public void rebuild() {
+        try {
+            postIdFilter.rebuild();
+        } catch (Exception e) {
+            // the previous filter stays in place, or every id is let through if there is none yet
+            log.warn("Failed to rebuild post id filter: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.boris.springredisblueprint.job;
+
+import com.boris.springredisblueprint.cache.ReferenceDataIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the reference data index on startup and periodically compares its version with
+ * Redis, in case a change notification was lost.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataSyncJob {
+    private final ReferenceDataIndex referenceDataIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            referenceDataIndex.refresh();
+        } catch (Exception e) {
+            // lookups fall back to the database until the next successful load
+            log.warn("Failed to load reference data index: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${cache.reference-data.version-check.cron}")
+    public void checkVersion() {
+        try {
+            referenceDataIndex.checkVersion();
+        } catch (Exception e) {
+            log.warn("Failed to check reference data version: {}", e.getMessage());
+        }
+    }
+}
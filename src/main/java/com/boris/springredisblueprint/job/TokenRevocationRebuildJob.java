@@ -0,0 +1,35 @@
+package com.boris.springredisblueprint.job;
+
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the revoked token ids on startup and periodically rebuilds the local
+ * revocation filter, dropping ids whose tokens have expired in the meantime.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRebuildJob {
+    private final TokenRevocationList tokenRevocationList;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${jwt.revocation.rebuild.cron}")
+    public void rebuild() {
+        try {
+            tokenRevocationList.rebuild();
+        } catch (Exception e) {
+            // the previous filter stays in place and revocations keep arriving through pub/sub
+            log.warn("Failed to rebuild token revocation filter: {}", e.getMessage());
+        }
+    }
+}
@@ -3,13 +3,20 @@ package com.boris.springredisblueprint.mapper;
 import com.boris.springredisblueprint.model.CreatePostRequest;
 import com.boris.springredisblueprint.model.UpdatePostRequest;
 import com.boris.springredisblueprint.model.dto.CreatePostRequestDto;
+import com.boris.springredisblueprint.model.dto.AuthorDto;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
 import com.boris.springredisblueprint.model.dto.UpdatePostRequestDto;
 import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.projection.PostSummaryView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Set;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface PostMapper {
     @Mapping(target = "author", source = "author")
@@ -22,6 +29,21 @@ public interface PostMapper {
     @Mapping(target = "tags", source = "tags")
     Post fromDto(PostDto postDto);
 
+    default PostSummaryDto toSummaryDto(PostSummaryView view, Set<TagDto> tags) {
+        return PostSummaryDto.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .excerpt(view.getExcerpt())
+                .author(new AuthorDto(view.getAuthorId(), view.getAuthorName()))
+                .category(CategoryDto.builder().id(view.getCategoryId()).name(view.getCategoryName()).build())
+                .tags(tags)
+                .readingTime(view.getReadingTime())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .status(view.getStatus())
+                .build();
+    }
+
     CreatePostRequest toCreatePostRequest(CreatePostRequestDto dto);
 
     UpdatePostRequest toUpdatePostRequest(UpdatePostRequestDto dto);
@@ -0,0 +1,57 @@
+package com.boris.springredisblueprint.model;
+
+import com.boris.springredisblueprint.model.entity.Post;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last post of a feed page, ordered by {@code (createdAt, id)}.
+ * <p>
+ * Clients receive it as an opaque URL-safe token: the creation time in UTC epoch
+ * microseconds followed by the 16 bytes of the id.
+ */
+public record FeedCursor(LocalDateTime createdAt, UUID id) {
+    private static final int ENCODED_LENGTH = Long.BYTES + 2 * Long.BYTES;
+
+    public static FeedCursor of(Post post) {
+        return new FeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        long epochMicros = createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(epochMicros)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode()}
+     */
+    public static FeedCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid feed cursor.", e);
+        }
+        if (bytes.length != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid feed cursor.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochMicros = buffer.getLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+
+        return new FeedCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
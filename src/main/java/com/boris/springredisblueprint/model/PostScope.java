@@ -0,0 +1,27 @@
+package com.boris.springredisblueprint.model;
+
+import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.entity.Tag;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the attributes that decide in which listings a post shows up.
+ */
+public record PostScope(PostStatusEnum status, UUID categoryId, Set<UUID> tagIds) {
+    public static PostScope of(Post post) {
+        UUID categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        Set<UUID> tagIds = post.getTags() == null ? Set.of() : post.getTags().stream()
+                .map(Tag::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new PostScope(post.getStatus(), categoryId, tagIds);
+    }
+
+    public boolean isPublished() {
+        return PostStatusEnum.PUBLISHED.equals(status);
+    }
+}
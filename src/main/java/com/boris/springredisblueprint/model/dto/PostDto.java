@@ -22,7 +22,10 @@ public class PostDto {
     private CategoryDto category;
     private Set<TagDto> tags;
     private Integer readingTime;
+    private Integer wordCount;
+    private Integer characterCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private PostStatusEnum status;
+    private Long version;
 }
@@ -0,0 +1,28 @@
+package com.boris.springredisblueprint.model.dto;
+
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSummaryDto {
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private AuthorDto author;
+    private CategoryDto category;
+    private Set<TagDto> tags;
+    private Integer readingTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private PostStatusEnum status;
+}
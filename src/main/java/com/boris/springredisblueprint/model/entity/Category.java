@@ -1,7 +1,11 @@
 package com.boris.springredisblueprint.model.entity;
 
+import com.boris.springredisblueprint.cache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +14,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.CATEGORIES)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -23,6 +29,11 @@ public class Category {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // maintained with bulk updates by PostCounterCommandService, never written through the entity
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int publishedPostCount;
+
     @OneToMany(mappedBy = "category")
     private List<Post> posts = new ArrayList<>();
 
@@ -3,6 +3,7 @@ package com.boris.springredisblueprint.model.entity;
 import com.boris.springredisblueprint.model.type.PostStatusEnum;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -18,6 +19,8 @@ import java.util.UUID;
 @Setter
 @Builder
 public class Post {
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -34,6 +37,7 @@ public class Post {
     private Category category;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
@@ -44,9 +48,20 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // plain-text start of the content, so listings never read the content column
+    @Column(nullable = false)
+    @Builder.Default
+    private String excerpt = "";
+
     @Column(nullable = false)
     private int readingTime;
 
+    @Column(nullable = false)
+    private int wordCount;
+
+    @Column(nullable = false)
+    private int characterCount;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PostStatusEnum status;
@@ -57,6 +72,11 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // stamps cached copies, see PostCache
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreated() {
         LocalDateTime now = LocalDateTime.now();
@@ -1,12 +1,18 @@
 package com.boris.springredisblueprint.model.entity;
 
+import com.boris.springredisblueprint.cache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
 @Entity
 @Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TAGS)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -20,6 +26,11 @@ public class Tag {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // maintained with bulk updates by PostCounterCommandService, never written through the entity
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int publishedPostCount;
+
     @ManyToMany(mappedBy = "tags")
     private Set<Post> posts = new HashSet<>();
 
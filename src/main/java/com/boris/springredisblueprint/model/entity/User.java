@@ -1,7 +1,10 @@
 package com.boris.springredisblueprint.model.entity;
 
+import com.boris.springredisblueprint.cache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +14,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.USERS)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
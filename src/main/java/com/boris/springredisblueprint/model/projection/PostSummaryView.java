@@ -0,0 +1,34 @@
+package com.boris.springredisblueprint.model.projection;
+
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Post columns shown in listings, with the names of its author and category and without
+ * the content.
+ */
+public interface PostSummaryView {
+    UUID getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    Integer getReadingTime();
+
+    PostStatusEnum getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    UUID getAuthorId();
+
+    String getAuthorName();
+
+    UUID getCategoryId();
+
+    String getCategoryName();
+}
@@ -0,0 +1,14 @@
+package com.boris.springredisblueprint.model.projection;
+
+import java.util.UUID;
+
+/**
+ * One tag of a post, for loading the tags of a page of post summaries in one query.
+ */
+public interface PostTagView {
+    UUID getPostId();
+
+    UUID getId();
+
+    String getName();
+}
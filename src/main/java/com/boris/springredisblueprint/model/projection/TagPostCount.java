@@ -0,0 +1,14 @@
+package com.boris.springredisblueprint.model.projection;
+
+import java.util.UUID;
+
+/**
+ * Tag with the number of its published posts, read from the maintained counter.
+ */
+public interface TagPostCount {
+    UUID getId();
+
+    String getName();
+
+    Integer getPostCount();
+}
@@ -1,8 +1,11 @@
 package com.boris.springredisblueprint.repository;
 
 import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.projection.CategoryPostCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,8 +13,26 @@ import java.util.UUID;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
-    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.posts")
-    List<Category> findAllWithPostCount();
+    @Query("SELECT c.id AS id, c.name AS name, c.publishedPostCount AS postCount FROM Category c ORDER BY c.name")
+    List<CategoryPostCount> findAllWithPostCount();
+
+    @Modifying
+    @Query("UPDATE Category c SET c.publishedPostCount = c.publishedPostCount + :delta WHERE c.id = :id")
+    int incrementPublishedPostCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE categories c
+            SET published_post_count = (SELECT COUNT(*)
+                                        FROM posts p
+                                        WHERE p.category_id = c.id
+                                          AND p.status = 'PUBLISHED')
+            WHERE c.published_post_count <> (SELECT COUNT(*)
+                                             FROM posts p
+                                             WHERE p.category_id = c.id
+                                               AND p.status = 'PUBLISHED')
+            """, nativeQuery = true)
+    int reconcilePublishedPostCounts();
 
     boolean existsByNameIgnoreCase(String name);
 }
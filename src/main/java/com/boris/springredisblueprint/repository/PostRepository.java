@@ -5,29 +5,125 @@ import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.PostSummaryView;
+import com.boris.springredisblueprint.model.projection.PostTagView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, UUID> {
-    @EntityGraph(attributePaths = {"author", "category", "tags"})
-    Page<Post> findAllByStatusAndCategoryAndTagsContaining(PostStatusEnum status, Category category, Tag tag, Pageable pageable);
+    // Listings select summary columns only, never the content; tags of a page are read
+    // with findTagsByPostIdIn so LIMIT/OFFSET stays in SQL.
+    String SUMMARY_SELECT = """
+            SELECT p.id AS id, p.title AS title, p.excerpt AS excerpt, p.readingTime AS readingTime,
+                   p.status AS status, p.createdAt AS createdAt, p.updatedAt AS updatedAt,
+                   a.id AS authorId, a.name AS authorName, c.id AS categoryId, c.name AS categoryName
+            FROM Post p JOIN p.author a JOIN p.category c
+            """;
 
-    @EntityGraph(attributePaths = {"author", "category", "tags"})
-    Page<Post> findAllByStatusAndCategory(PostStatusEnum status, Category category, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status AND p.category = :category AND :tag MEMBER OF p.tags",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.status = :status AND p.category = :category AND :tag MEMBER OF p.tags")
+    Page<PostSummaryView> findSummariesByStatusAndCategoryAndTag(@Param("status") PostStatusEnum status,
+                                                                 @Param("category") Category category,
+                                                                 @Param("tag") Tag tag,
+                                                                 Pageable pageable);
 
-    @EntityGraph(attributePaths = {"author", "category", "tags"})
-    Page<Post> findAllByStatusAndTagsContaining(PostStatusEnum status, Tag tag, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status AND p.category = :category",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.status = :status AND p.category = :category")
+    Page<PostSummaryView> findSummariesByStatusAndCategory(@Param("status") PostStatusEnum status,
+                                                           @Param("category") Category category,
+                                                           Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status AND :tag MEMBER OF p.tags",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.status = :status AND :tag MEMBER OF p.tags")
+    Page<PostSummaryView> findSummariesByStatusAndTag(@Param("status") PostStatusEnum status,
+                                                      @Param("tag") Tag tag,
+                                                      Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.status = :status")
+    Page<PostSummaryView> findSummariesByStatus(@Param("status") PostStatusEnum status, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.author = :author AND p.status = :status",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.author = :author AND p.status = :status")
+    Page<PostSummaryView> findSummariesByAuthorAndStatus(@Param("author") User author,
+                                                         @Param("status") PostStatusEnum status,
+                                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryView> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id AS postId, t.id AS id, t.name AS name FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagView> findTagsByPostIdIn(@Param("postIds") Collection<UUID> postIds);
 
     @EntityGraph(attributePaths = {"author", "category", "tags"})
-    Page<Post> findAllByStatus(PostStatusEnum status, Pageable pageable);
+    List<Post> findAllByIdIn(Collection<UUID> ids);
 
+    // everything PostMapper reads, so the post can be mapped outside a transaction
     @EntityGraph(attributePaths = {"author", "category", "tags"})
-    Page<Post> findAllByAuthorAndStatus(User author, PostStatusEnum status, Pageable pageable);
+    Optional<Post> findWithDetailsById(UUID id);
+
+    @Query("SELECT p.version FROM Post p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT p.id FROM Post p WHERE p.id > :after ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.status = :status
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeed(@Param("status") PostStatusEnum status, Limit limit);
+
+    // a row-value comparison, unlike the equivalent OR of both columns, lets the V4 indexes
+    // start the scan at the cursor instead of filtering every newer row
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.status = :status
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeedAfter(@Param("status") PostStatusEnum status,
+                             @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") UUID id,
+                             Limit limit);
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.status = :status AND p.category.id = :categoryId
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeedByCategory(@Param("status") PostStatusEnum status,
+                                  @Param("categoryId") UUID categoryId,
+                                  Limit limit);
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.status = :status AND p.category.id = :categoryId
+              AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeedByCategoryAfter(@Param("status") PostStatusEnum status,
+                                       @Param("categoryId") UUID categoryId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
 }
 
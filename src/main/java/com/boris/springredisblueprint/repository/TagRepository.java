@@ -1,18 +1,42 @@
 package com.boris.springredisblueprint.repository;
 
 import com.boris.springredisblueprint.model.entity.Tag;
+import com.boris.springredisblueprint.model.projection.TagPostCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
-    @Query("SELECT t FROM Tag t LEFT JOIN FETCH t.posts")
-    List<Tag> findAllWithPostCount();
+    @Query("SELECT t.id AS id, t.name AS name, t.publishedPostCount AS postCount FROM Tag t ORDER BY t.name")
+    List<TagPostCount> findAllWithPostCount();
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.publishedPostCount = t.publishedPostCount + :delta WHERE t.id IN :ids")
+    int incrementPublishedPostCount(@Param("ids") Collection<UUID> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE tags t
+            SET published_post_count = (SELECT COUNT(*)
+                                        FROM post_tags pt
+                                                 JOIN posts p ON p.id = pt.post_id
+                                        WHERE pt.tag_id = t.id
+                                          AND p.status = 'PUBLISHED')
+            WHERE t.published_post_count <> (SELECT COUNT(*)
+                                             FROM post_tags pt
+                                                      JOIN posts p ON p.id = pt.post_id
+                                             WHERE pt.tag_id = t.id
+                                               AND p.status = 'PUBLISHED')
+            """, nativeQuery = true)
+    int reconcilePublishedPostCounts();
 
     List<Tag> findByNameIn(Set<String> names);
 }
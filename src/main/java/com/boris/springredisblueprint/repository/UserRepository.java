@@ -1,7 +1,11 @@
 package com.boris.springredisblueprint.repository;
 
+import com.boris.springredisblueprint.cache.EntityCacheRegions;
 import com.boris.springredisblueprint.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,5 +13,10 @@ import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    // resolved on every login and legacy token, invalidated by any write to users
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.USERS_BY_EMAIL)
+    })
     Optional<User> findByEmail(String email);
 }
@@ -35,8 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                if (userDetails instanceof BlogUserDetails) {
-                    request.setAttribute("userId", ((BlogUserDetails) userDetails).getId());
+                if (userDetails instanceof JwtUserPrincipal principal) {
+                    request.setAttribute("userId", principal.getId());
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,68 @@
+package com.boris.springredisblueprint.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * HMAC keys used to sign and verify tokens. Tokens are signed with the active key and carry
+ * its id in the {@code kid} header; previous keys are only used for verification, so a secret
+ * can be rotated without logging everybody out. Key ids are derived from the secrets, so the
+ * configuration only lists secrets.
+ */
+public class JwtKeyRing extends LocatorAdapter<Key> {
+    @Getter
+    private final String activeKeyId;
+    @Getter
+    private final SecretKey activeKey;
+    private final Map<String, SecretKey> keys;
+
+    public JwtKeyRing(String activeSecret, Collection<String> previousSecrets) {
+        Map<String, SecretKey> ring = new HashMap<>();
+        for (String secret : previousSecrets) {
+            if (secret != null && !secret.isBlank()) {
+                ring.put(keyId(secret), Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        this.activeKeyId = keyId(activeSecret);
+        this.activeKey = Keys.hmacShaKeyFor(activeSecret.getBytes(StandardCharsets.UTF_8));
+        ring.put(activeKeyId, activeKey);
+        this.keys = Map.copyOf(ring);
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            // tokens issued before kid headers were introduced
+            return activeKey;
+        }
+
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+        }
+
+        return key;
+    }
+
+    static String keyId(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.boris.springredisblueprint.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authenticated user rebuilt from verified JWT claims, so authenticated requests
+ * do not need to load the user from the database.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtUserPrincipal implements UserDetails {
+    private final UUID id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    public static JwtUserPrincipal of(UUID id, String username, Collection<String> roles) {
+        List<GrantedAuthority> authorities = roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new JwtUserPrincipal(id, username, authorities);
+    }
+
+    public static JwtUserPrincipal from(BlogUserDetails userDetails) {
+        return new JwtUserPrincipal(
+                userDetails.getId(),
+                userDetails.getUsername(),
+                List.copyOf(userDetails.getAuthorities()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.boris.springredisblueprint.security;
+
+import com.boris.springredisblueprint.exception.LoginThrottledException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Sliding-window limit on login attempts per email and per client address, shared by all
+ * nodes through Redis.
+ * <p>
+ * Each window is a sorted set of attempt timestamps. One Lua script trims both windows,
+ * checks both limits and records the attempt only when both allow it, using the Redis clock
+ * so nodes with skewed clocks agree. If Redis is unreachable attempts are let through, since
+ * the bounded password hashing executor still protects the node.
+ */
+@Log4j2
+public class LoginRateLimiter {
+    static final String EMAIL_KEY_PREFIX = "login-attempts:email:";
+    static final String CLIENT_KEY_PREFIX = "login-attempts:client:";
+
+    // returns 0 when the attempt is allowed, otherwise the milliseconds until it would be
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local retryAfter = 0
+            for i, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                if redis.call('ZCARD', key) >= tonumber(ARGV[i + 1]) then
+                    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    retryAfter = math.max(retryAfter, tonumber(oldest[2]) + window - now)
+                end
+            end
+            if retryAfter > 0 then
+                return retryAfter
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('ZADD', key, now, ARGV[4])
+                redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerClient;
+
+    public LoginRateLimiter(StringRedisTemplate redisTemplate,
+                            Duration window,
+                            int maxAttemptsPerEmail,
+                            int maxAttemptsPerClient) {
+        if (maxAttemptsPerEmail < 1 || maxAttemptsPerClient < 1) {
+            throw new IllegalArgumentException("Login attempt limits must be positive.");
+        }
+
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerClient = maxAttemptsPerClient;
+    }
+
+    /**
+     * Records a login attempt, or throws {@link LoginThrottledException} when either the
+     * email or the client address has used up its attempts in the current window.
+     */
+    public void acquire(String email, String clientAddress) {
+        List<String> keys = List.of(
+                EMAIL_KEY_PREFIX + String.valueOf(email).toLowerCase(Locale.ROOT),
+                CLIENT_KEY_PREFIX + clientAddress);
+
+        Long retryAfterMs;
+        try {
+            retryAfterMs = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys,
+                    String.valueOf(window.toMillis()),
+                    String.valueOf(maxAttemptsPerEmail),
+                    String.valueOf(maxAttemptsPerClient),
+                    UUID.randomUUID().toString());
+        } catch (DataAccessException e) {
+            log.warn("Login rate limiter unavailable, allowing attempt: {}", e.getMessage());
+            return;
+        }
+
+        if (retryAfterMs != null && retryAfterMs > 0) {
+            log.warn("Throttled login attempt for '{}' from {}", email, clientAddress);
+            throw new LoginThrottledException("Too many login attempts, try again later.",
+                    Duration.ofMillis(retryAfterMs));
+        }
+    }
+}
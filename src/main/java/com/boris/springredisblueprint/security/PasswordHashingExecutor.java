@@ -0,0 +1,55 @@
+package com.boris.springredisblueprint.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Small fixed pool that runs password verification, so a burst of logins cannot occupy
+ * every request thread with hashing. Callers wait for their result. When every thread is
+ * busy and the queue is full, {@link #execute(Supplier)} fails fast with
+ * {@link RejectedExecutionException} instead of queueing more work.
+ * <p>
+ * Execution time, queue wait and pool usage are published as Micrometer
+ * {@code executor*} metrics tagged {@code name=password.hashing}.
+ */
+public class PasswordHashingExecutor implements DisposableBean {
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+
+    public PasswordHashingExecutor(int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future = executor.submit(task::get);
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password verification", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,121 @@
+package com.boris.springredisblueprint.security;
+
+import com.boris.springredisblueprint.util.BloomFilter;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Revoked token ids ({@code jti}), stored in Redis until the token would have expired.
+ * <p>
+ * Every node keeps a local Bloom filter of revoked ids, fed by pub/sub, so checking a
+ * token that was never revoked needs no Redis round-trip; only Bloom filter hits are
+ * confirmed against Redis. Ids are never removed from a Bloom filter, so {@link #rebuild()}
+ * periodically replaces it with one built from the ids still present in Redis.
+ * <p>
+ * Until the first rebuild succeeds the filter knows nothing about revocations made
+ * before this node started, so every check goes to Redis.
+ */
+@Log4j2
+public class TokenRevocationList implements MessageListener {
+    static final String KEY_PREFIX = "revoked-token:";
+
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final String channel;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter revokedIds;
+    private volatile boolean loaded;
+    // receives revocations published while a rebuild is scanning Redis
+    private BloomFilter rebuilding;
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate,
+                               String channel,
+                               long expectedRevocations,
+                               double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedIds = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", remaining);
+        addLocal(tokenId);
+
+        try {
+            redisTemplate.convertAndSend(channel, tokenId);
+        } catch (Exception e) {
+            // other nodes pick the id up on their next rebuild
+            log.warn("Failed to publish revocation of token '{}': {}", tokenId, e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (loaded && !revokedIds.mightContain(tokenId)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+        synchronized (this) {
+            rebuilding = rebuilt;
+        }
+
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                rebuilt.add(keys.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            revokedIds = rebuilt;
+            rebuilding = null;
+        }
+        loaded = true;
+        log.info("Rebuilt token revocation filter with {} revoked ids", count);
+        if (count > expectedRevocations) {
+            log.warn("{} revoked tokens exceed the {} the filter is sized for, more checks will reach Redis",
+                    count, expectedRevocations);
+        }
+    }
+
+    private synchronized void addLocal(String tokenId) {
+        revokedIds.add(tokenId);
+        if (rebuilding != null) {
+            rebuilding.add(tokenId);
+        }
+    }
+}
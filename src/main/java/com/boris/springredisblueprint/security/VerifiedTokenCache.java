@@ -0,0 +1,71 @@
+package com.boris.springredisblueprint.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of recently verified tokens, keyed by the SHA-256 digest of the
+ * token so raw bearer tokens are never retained. Entries expire together with their token,
+ * so a client repeating the same token skips signature verification and claims parsing.
+ * A maximum size of 0 disables caching.
+ */
+public class VerifiedTokenCache {
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = maximumSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(Expiry.creating((String digest, Claims claims) -> timeToLive(claims)))
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached claims of the token, or verifies it with {@code verifier} and caches
+     * the result. Verification failures propagate and are never cached.
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        String digest = digest(token);
+        Claims claims = cache.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
+        claims = verifier.apply(token);
+        if (claims.getExpiration() != null) {
+            cache.put(digest, claims);
+        }
+
+        return claims;
+    }
+
+    private static Duration timeToLive(Claims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -6,4 +6,12 @@ import java.util.UUID;
 
 public interface UserService {
     User getUserById(UUID id);
+
+    /**
+     * Returns a lazy reference to the user without querying the database, for callers
+     * that already hold a verified user id and only need the entity as a query parameter.
+     * The user is not checked to exist, so writes that persist the association should use
+     * {@link #getUserById(UUID)} instead.
+     */
+    User getUserReference(UUID id);
 }
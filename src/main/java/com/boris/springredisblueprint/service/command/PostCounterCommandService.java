@@ -0,0 +1,18 @@
+package com.boris.springredisblueprint.service.command;
+
+import com.boris.springredisblueprint.model.PostScope;
+
+public interface PostCounterCommandService {
+    /**
+     * Moves the published post counters of the affected tags and category from the
+     * previous scope of a post to its current one. Either side is {@code null} when
+     * the post is created or deleted.
+     */
+    void applyScopeChange(PostScope previous, PostScope current);
+
+    /**
+     * Recomputes every counter from the posts table and returns the number of rows
+     * that had drifted.
+     */
+    int reconcile();
+}
@@ -1,5 +1,7 @@
 package com.boris.springredisblueprint.service.command.impl;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ReferenceDataChangedEvent;
 import com.boris.springredisblueprint.exception.CategoryNotFoundException;
 import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.repository.CategoryRepository;
@@ -7,6 +9,8 @@ import com.boris.springredisblueprint.service.command.CategoryCommandService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -16,9 +20,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CategoryCommandServiceImpl implements CategoryCommandService {
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
+    @CacheEvict(value = {CacheNames.CATEGORY_LIST_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
     public Category createCategory(Category category) {
         log.info("Creating new category '{}'", category.getName());
         if (categoryRepository.existsByNameIgnoreCase(category.getName())) {
@@ -26,6 +32,7 @@ public class CategoryCommandServiceImpl implements CategoryCommandService {
         }
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         log.info("Successfully created category with id: '{}'", savedCategory.getId());
 
         return savedCategory;
@@ -33,6 +40,7 @@ public class CategoryCommandServiceImpl implements CategoryCommandService {
 
     @Override
     @Transactional
+    @CacheEvict(value = {CacheNames.CATEGORY_LIST_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
     public void deleteCategory(UUID id) {
         log.info("Deleting category with id: '{}'", id);
 
@@ -48,6 +56,7 @@ public class CategoryCommandServiceImpl implements CategoryCommandService {
         }
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         log.info("Successfully deleted category: '{}'", id);
     }
 }
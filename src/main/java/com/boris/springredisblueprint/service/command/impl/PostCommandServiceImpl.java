@@ -1,19 +1,30 @@
 package com.boris.springredisblueprint.service.command.impl;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.PostCache;
+import com.boris.springredisblueprint.cache.PostChangedEvent;
+import com.boris.springredisblueprint.cache.PostIdFilter;
 import com.boris.springredisblueprint.exception.PostNotFoundException;
+import com.boris.springredisblueprint.mapper.PostMapper;
 import com.boris.springredisblueprint.model.CreatePostRequest;
+import com.boris.springredisblueprint.model.PostScope;
 import com.boris.springredisblueprint.model.UpdatePostRequest;
+import com.boris.springredisblueprint.model.dto.PostDto;
 import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
 import com.boris.springredisblueprint.repository.PostRepository;
 import com.boris.springredisblueprint.service.command.PostCommandService;
+import com.boris.springredisblueprint.service.command.PostCounterCommandService;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
 import com.boris.springredisblueprint.service.query.TagQueryService;
+import com.boris.springredisblueprint.util.TextExcerpt;
+import com.boris.springredisblueprint.util.TextStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,11 +42,18 @@ public class PostCommandServiceImpl implements PostCommandService {
     private final PostRepository postRepository;
     private final CategoryQueryService categoryQueryService;
     private final TagQueryService tagQueryService;
+    private final PostCache postCache;
+    private final PostIdFilter postIdFilter;
+    private final PostMapper postMapper;
+    private final PostCounterCommandService postCounterCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int WORDS_PER_MINUTE = 200;
 
     @Override
     @Transactional
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.CATEGORY_LIST_CACHE,
+            CacheNames.TAG_LIST_RESPONSE_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
     public Post createPost(User user, CreatePostRequest createPostRequest) {
         log.info("Creating new post '{}' by user '{}'",
                 createPostRequest.getTitle(), user.getId());
@@ -45,7 +63,7 @@ public class PostCommandServiceImpl implements PostCommandService {
         newPost.setContent(createPostRequest.getContent());
         newPost.setStatus(createPostRequest.getStatus());
         newPost.setAuthor(user);
-        newPost.setReadingTime(calculateReadingTime(createPostRequest.getContent()));
+        applyContentStats(newPost, createPostRequest.getContent());
 
         Category category = categoryQueryService.getCategoryById(createPostRequest.getCategoryId());
         newPost.setCategory(category);
@@ -55,6 +73,10 @@ public class PostCommandServiceImpl implements PostCommandService {
         newPost.setTags(new HashSet<>(tags));
 
         Post savedPost = postRepository.save(newPost);
+        postIdFilter.add(savedPost.getId());
+        PostScope scope = PostScope.of(savedPost);
+        postCounterCommandService.applyScopeChange(null, scope);
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId(), scope));
         log.info("Successfully created post with id: '{}'", savedPost.getId());
 
         return savedPost;
@@ -62,7 +84,8 @@ public class PostCommandServiceImpl implements PostCommandService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "POST_CACHE", key = "#id")
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.CATEGORY_LIST_CACHE,
+            CacheNames.TAG_LIST_RESPONSE_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
     public Post updatePost(UUID id, UpdatePostRequest updatePostRequest) {
         log.info("Updating post with id: '{}'", id);
 
@@ -72,12 +95,13 @@ public class PostCommandServiceImpl implements PostCommandService {
                     return new PostNotFoundException(
                             String.format("Post with ID '%s' not found.", id));
                 });
+        PostScope previousScope = PostScope.of(existingPost);
 
         existingPost.setTitle(updatePostRequest.getTitle());
         String postContent = updatePostRequest.getContent();
         existingPost.setContent(postContent);
         existingPost.setStatus(updatePostRequest.getStatus());
-        existingPost.setReadingTime(calculateReadingTime(postContent));
+        applyContentStats(existingPost, postContent);
 
         UUID updatePostRequestCategoryId = updatePostRequest.getCategoryId();
         if (!existingPost.getCategory().getId().equals(updatePostRequestCategoryId)) {
@@ -98,6 +122,14 @@ public class PostCommandServiceImpl implements PostCommandService {
         }
 
         Post updatedPost = postRepository.save(existingPost);
+        // flush now so the version is incremented before it is handed to the cache
+        postRepository.flush();
+        PostScope currentScope = PostScope.of(updatedPost);
+        postCounterCommandService.applyScopeChange(previousScope, currentScope);
+        // the cached post and listings are replaced only after commit, so no reader can cache the old rows again
+        PostDto updatedPostDto = postCache.isWriteThrough() ? postMapper.toDto(updatedPost) : null;
+        eventPublisher.publishEvent(new PostChangedEvent(
+                id, updatedPost.getVersion(), updatedPostDto, previousScope, currentScope));
         log.info("Successfully updated post: '{}'", id);
 
         return updatedPost;
@@ -105,7 +137,8 @@ public class PostCommandServiceImpl implements PostCommandService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "POST_CACHE", key = "#id")
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.CATEGORY_LIST_CACHE,
+            CacheNames.TAG_LIST_RESPONSE_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
     public void deletePost(UUID id) {
         log.info("Deleting post with id: '{}'", id);
 
@@ -116,16 +149,22 @@ public class PostCommandServiceImpl implements PostCommandService {
                             String.format("Post with ID '%s' not found.", id));
                 });
 
+        PostScope previousScope = PostScope.of(post);
         postRepository.delete(post);
+        postCounterCommandService.applyScopeChange(previousScope, null);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(id, previousScope));
         log.info("Successfully deleted post: '{}'", id);
     }
 
-    private Integer calculateReadingTime(String content) {
-        if (content == null || content.isEmpty()) {
-            return 0;
-        }
+    private static void applyContentStats(Post post, String content) {
+        TextStats stats = TextStats.of(content);
+        post.setReadingTime(calculateReadingTime(stats.wordCount()));
+        post.setWordCount(stats.wordCount());
+        post.setCharacterCount(stats.characterCount());
+        post.setExcerpt(TextExcerpt.of(content, Post.EXCERPT_LENGTH));
+    }
 
-        int wordCount = content.trim().split("\\s+").length;
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+    static int calculateReadingTime(int wordCount) {
+        return (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.boris.springredisblueprint.service.command.impl;
+
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.model.PostScope;
+import com.boris.springredisblueprint.repository.CategoryRepository;
+import com.boris.springredisblueprint.repository.TagRepository;
+import com.boris.springredisblueprint.service.command.PostCounterCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class PostCounterCommandServiceImpl implements PostCounterCommandService {
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyScopeChange(PostScope previous, PostScope current) {
+        Map<UUID, Integer> categoryDeltas = new HashMap<>();
+        Map<UUID, Integer> tagDeltas = new HashMap<>();
+        collectDeltas(previous, -1, categoryDeltas, tagDeltas);
+        collectDeltas(current, 1, categoryDeltas, tagDeltas);
+
+        categoryDeltas.forEach((categoryId, delta) -> {
+            if (delta != 0) {
+                categoryRepository.incrementPublishedPostCount(categoryId, delta);
+            }
+        });
+
+        // one statement per distinct delta, in practice a single +1 and/or -1 update
+        Map<Integer, List<UUID>> tagsByDelta = new HashMap<>();
+        tagDeltas.forEach((tagId, delta) -> {
+            if (delta != 0) {
+                tagsByDelta.computeIfAbsent(delta, ignored -> new ArrayList<>()).add(tagId);
+            }
+        });
+        tagsByDelta.forEach((delta, tagIds) -> tagRepository.incrementPublishedPostCount(tagIds, delta));
+
+        log.debug("Applied published post counter deltas, categories: {}, tags: {}", categoryDeltas, tagDeltas);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.CATEGORY_LIST_CACHE,
+            CacheNames.TAG_LIST_RESPONSE_CACHE, CacheNames.CATEGORY_LIST_RESPONSE_CACHE}, allEntries = true)
+    public int reconcile() {
+        int repairedTags = tagRepository.reconcilePublishedPostCounts();
+        int repairedCategories = categoryRepository.reconcilePublishedPostCounts();
+
+        if (repairedTags > 0 || repairedCategories > 0) {
+            log.warn("Repaired drifted published post counters, tags: {}, categories: {}",
+                    repairedTags, repairedCategories);
+        } else {
+            log.info("Published post counters are consistent");
+        }
+
+        return repairedTags + repairedCategories;
+    }
+
+    private static void collectDeltas(PostScope scope, int delta,
+                                      Map<UUID, Integer> categoryDeltas,
+                                      Map<UUID, Integer> tagDeltas) {
+        if (scope == null || !scope.isPublished()) {
+            return;
+        }
+
+        if (scope.categoryId() != null) {
+            categoryDeltas.merge(scope.categoryId(), delta, Integer::sum);
+        }
+        scope.tagIds().forEach(tagId -> tagDeltas.merge(tagId, delta, Integer::sum));
+    }
+}
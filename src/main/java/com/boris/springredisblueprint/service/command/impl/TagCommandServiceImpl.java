@@ -1,5 +1,7 @@
 package com.boris.springredisblueprint.service.command.impl;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ReferenceDataChangedEvent;
 import com.boris.springredisblueprint.exception.TagNotFoundException;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.repository.TagRepository;
@@ -7,6 +9,8 @@ import com.boris.springredisblueprint.service.command.TagCommandService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -17,9 +21,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TagCommandServiceImpl implements TagCommandService {
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.TAG_LIST_RESPONSE_CACHE}, allEntries = true)
     public List<Tag> createTags(Set<String> tagNames) {
         List<Tag> existingTags = tagRepository.findByNameIn(tagNames);
         Set<String> existingTagNames = existingTags.stream().map(Tag::getName).collect(Collectors.toSet());
@@ -38,6 +44,7 @@ public class TagCommandServiceImpl implements TagCommandService {
         if (!newTags.isEmpty()) {
             log.info("Saving {} new tags", newTags.size());
             savedTags = tagRepository.saveAll(newTags);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         }
 
         savedTags.addAll(existingTags);
@@ -48,6 +55,7 @@ public class TagCommandServiceImpl implements TagCommandService {
 
     @Override
     @Transactional
+    @CacheEvict(value = {CacheNames.TAG_LIST_CACHE, CacheNames.TAG_LIST_RESPONSE_CACHE}, allEntries = true)
     public void deleteTag(UUID id) {
         log.info("Deleting tag with id: '{}'", id);
 
@@ -63,6 +71,7 @@ public class TagCommandServiceImpl implements TagCommandService {
         }
 
         tagRepository.delete(tag);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         log.info("Successfully deleted tag: '{}'", id);
     }
 }
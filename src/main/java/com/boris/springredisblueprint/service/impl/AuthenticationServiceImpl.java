@@ -1,70 +1,126 @@
 package com.boris.springredisblueprint.service.impl;
 
+import com.boris.springredisblueprint.security.BlogUserDetails;
+import com.boris.springredisblueprint.security.JwtKeyRing;
+import com.boris.springredisblueprint.security.JwtUserPrincipal;
+import com.boris.springredisblueprint.security.PasswordHashingExecutor;
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import com.boris.springredisblueprint.security.VerifiedTokenCache;
 import com.boris.springredisblueprint.service.AuthenticationService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
     private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserDetailsService userDetailsService;
-
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    // immutable and thread-safe, so one parser serves every request
+    private final JwtParser jwtParser;
 
     private final Long jwtExpiryMs = 86400000L;
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+
+    public AuthenticationServiceImpl(AuthenticationManager authenticationManager,
+                                     PasswordHashingExecutor passwordHashingExecutor,
+                                     UserDetailsService userDetailsService,
+                                     JwtKeyRing jwtKeyRing,
+                                     VerifiedTokenCache verifiedTokenCache,
+                                     TokenRevocationList tokenRevocationList) {
+        this.authenticationManager = authenticationManager;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userDetailsService = userDetailsService;
+        this.jwtKeyRing = jwtKeyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyRing)
+                .build();
+    }
+
     @Override
     public UserDetails authenticate(String email, String password) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
+        Authentication authentication = passwordHashingExecutor.execute(() ->
+                authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password)));
+
+        if (authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return userDetails;
+        }
         return userDetailsService.loadUserByUsername(email);
     }
 
     @Override
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof BlogUserDetails blogUserDetails) {
+            claims.put(USER_ID_CLAIM, blogUserDetails.getId().toString());
+        }
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+
         return Jwts.builder()
+                .header().keyId(jwtKeyRing.getActiveKeyId()).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiryMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(jwtKeyRing.getActiveKey(), Jwts.SIG.HS256)
                 .compact();
     }
 
     @Override
     public UserDetails validateToken(String token) {
-        String username = extractUsername(token);
-        return userDetailsService.loadUserByUsername(username);
-    }
+        Claims claims = verifiedTokenCache.get(token, this::extractClaims);
+        if (claims.getId() != null && tokenRevocationList.isRevoked(claims.getId())) {
+            throw new BadCredentialsException("Token has been revoked.");
+        }
+
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+
+        if (userId == null) {
+            // tokens issued before the uid claim existed still need the user lookup
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return userDetails instanceof BlogUserDetails blogUserDetails
+                    ? JwtUserPrincipal.from(blogUserDetails)
+                    : userDetails;
+        }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return JwtUserPrincipal.of(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                roles != null ? roles.stream().map(String::valueOf).toList() : List.of());
     }
 
-    private String extractUsername(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    @Override
+    public void revokeToken(String token) {
+        Claims claims = verifiedTokenCache.get(token, this::extractClaims);
+        if (claims.getId() == null) {
+            throw new IllegalArgumentException("Token has no id and cannot be revoked.");
+        }
+
+        tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
 
-        return claims.getSubject();
+    private Claims extractClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -18,4 +18,9 @@ public class UserServiceImpl implements UserService {
     public User getUserById(UUID id) {
         return userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
     }
+
+    @Override
+    public User getUserReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
 }
@@ -1,16 +1,26 @@
 package com.boris.springredisblueprint.service.query;
 
+import com.boris.springredisblueprint.model.dto.CursorSliceDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
 import com.boris.springredisblueprint.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PostQueryService {
-    Page<PostDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable);
+    Page<PostSummaryDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable);
+
+    CursorSliceDto<PostDto> getFeed(UUID categoryId, String cursor, int size);
 
     PostDto getPost(UUID id);
 
-    Page<PostDto> getDraftPosts(User user, Pageable pageable);
+    Optional<Long> getPostVersion(UUID id);
+
+    List<PostDto> getPosts(List<UUID> ids);
+
+    Page<PostSummaryDto> getDraftPosts(User user, Pageable pageable);
 }
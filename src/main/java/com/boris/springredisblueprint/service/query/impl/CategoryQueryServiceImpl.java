@@ -1,5 +1,7 @@
 package com.boris.springredisblueprint.service.query.impl;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ReferenceDataIndex;
 import com.boris.springredisblueprint.exception.CategoryNotFoundException;
 import com.boris.springredisblueprint.mapper.CategoryMapper;
 import com.boris.springredisblueprint.model.dto.CategoryDto;
@@ -8,9 +10,11 @@ import com.boris.springredisblueprint.repository.CategoryRepository;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Log4j2
@@ -19,8 +23,10 @@ import java.util.UUID;
 public class CategoryQueryServiceImpl implements CategoryQueryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ReferenceDataIndex referenceDataIndex;
 
     @Override
+    @Cacheable(CacheNames.CATEGORY_LIST_CACHE)
     public List<CategoryDto> getAllCategories() {
         List<CategoryDto> categories = categoryRepository.findAllWithPostCount()
                 .stream()
@@ -36,6 +42,12 @@ public class CategoryQueryServiceImpl implements CategoryQueryService {
     public Category getCategoryById(UUID id) {
         log.info("Fetching category with id: {}", id);
 
+        Optional<Category> indexedCategory = referenceDataIndex.findCategory(id);
+        if (indexedCategory.isPresent()) {
+            return indexedCategory.get();
+        }
+
+        // not in the index yet, e.g. created on another node moments ago
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Category not found with id: {}", id);
@@ -1,12 +1,22 @@
 package com.boris.springredisblueprint.service.query.impl;
 
+import com.boris.springredisblueprint.cache.PostCache;
+import com.boris.springredisblueprint.cache.PostIdFilter;
+import com.boris.springredisblueprint.cache.PostIdPage;
+import com.boris.springredisblueprint.cache.PostListingCache;
 import com.boris.springredisblueprint.exception.PostNotFoundException;
 import com.boris.springredisblueprint.mapper.PostMapper;
+import com.boris.springredisblueprint.model.FeedCursor;
+import com.boris.springredisblueprint.model.dto.CursorSliceDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
 import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.PostSummaryView;
+import com.boris.springredisblueprint.model.projection.PostTagView;
 import com.boris.springredisblueprint.model.type.PostStatusEnum;
 import com.boris.springredisblueprint.repository.PostRepository;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
@@ -14,13 +24,14 @@ import com.boris.springredisblueprint.service.query.PostQueryService;
 import com.boris.springredisblueprint.service.query.TagQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.*;
 
 @Log4j2
 @Service
@@ -31,64 +42,235 @@ public class PostQueryServiceImpl implements PostQueryService {
     private final PostMapper postMapper;
     private final CategoryQueryService categoryQueryService;
     private final TagQueryService tagQueryService;
+    private final PostListingCache postListingCache;
+    private final PostCache postCache;
+    private final PostIdFilter postIdFilter;
+
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable) {
+    public Page<PostSummaryDto> getAllPosts(UUID categoryId, UUID tagId, Pageable pageable) {
         log.info("Querying posts with categoryId: {}, tagId: {}, page: {}",
                 categoryId, tagId, pageable.getPageNumber());
 
-        Page<Post> posts;
+        String listingKey = postListingCache.keyFor(categoryId, tagId, pageable);
+        Optional<PostIdPage> cachedPage = postListingCache.get(listingKey);
+        if (cachedPage.isPresent()) {
+            log.debug("Serving post listing from cache: {}", listingKey);
+            return hydrate(cachedPage.get(), pageable);
+        }
+
+        Page<PostSummaryView> posts;
 
         if (categoryId != null && tagId != null) {
             Category category = categoryQueryService.getCategoryById(categoryId);
             Tag tag = tagQueryService.getTagById(tagId);
-            posts = postRepository.findAllByStatusAndCategoryAndTagsContaining(
+            posts = postRepository.findSummariesByStatusAndCategoryAndTag(
                     PostStatusEnum.PUBLISHED, category, tag, pageable);
         } else if (categoryId != null) {
             Category category = categoryQueryService.getCategoryById(categoryId);
-            posts = postRepository.findAllByStatusAndCategory(
+            posts = postRepository.findSummariesByStatusAndCategory(
                     PostStatusEnum.PUBLISHED, category, pageable);
         } else if (tagId != null) {
             Tag tag = tagQueryService.getTagById(tagId);
-            posts = postRepository.findAllByStatusAndTagsContaining(
+            posts = postRepository.findSummariesByStatusAndTag(
                     PostStatusEnum.PUBLISHED, tag, pageable);
         } else {
-            posts = postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, pageable);
+            posts = postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable);
         }
 
         log.info("Found {} posts", posts.getTotalElements());
-        return posts.map(postMapper::toDto);
+        List<UUID> postIds = posts.getContent().stream().map(PostSummaryView::getId).toList();
+        postListingCache.put(listingKey, new PostIdPage(postIds, posts.getTotalElements()));
+
+        return toSummaries(posts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "POST_CACHE", key = "#id")
+    public CursorSliceDto<PostDto> getFeed(UUID categoryId, String cursor, int size) {
+        log.info("Querying post feed with categoryId: {}, size: {}", categoryId, size);
+
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Feed size must be between 1 and %d.", MAX_FEED_SIZE));
+        }
+
+        FeedCursor after = cursor != null ? FeedCursor.decode(cursor) : null;
+        // one extra row tells whether another page exists without a count query
+        Limit limit = Limit.of(size + 1);
+
+        List<Post> posts;
+        if (categoryId != null) {
+            posts = after == null
+                    ? postRepository.findFeedByCategory(PostStatusEnum.PUBLISHED, categoryId, limit)
+                    : postRepository.findFeedByCategoryAfter(
+                            PostStatusEnum.PUBLISHED, categoryId, after.createdAt(), after.id(), limit);
+        } else {
+            posts = after == null
+                    ? postRepository.findFeed(PostStatusEnum.PUBLISHED, limit)
+                    : postRepository.findFeedAfter(PostStatusEnum.PUBLISHED, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > size;
+        List<Post> page = hasNext ? posts.subList(0, size) : posts;
+        String nextCursor = hasNext ? FeedCursor.of(page.getLast()).encode() : null;
+
+        log.info("Found {} feed posts, hasNext: {}", page.size(), hasNext);
+
+        return CursorSliceDto.<PostDto>builder()
+                .content(page.stream().map(postMapper::toDto).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    // not transactional: requests waiting for another loader must not hold a connection
     public PostDto getPost(UUID id) {
-        log.info("Fetching post with id: {}", id);
+        if (!postIdFilter.mightExist(id)) {
+            log.debug("Rejected unknown post id: {}", id);
+            throw new PostNotFoundException(String.format("Post with ID '%s' not found.", id));
+        }
+
+        return postCache.getOrLoad(id, () -> {
+            log.info("Fetching post with id: {}", id);
+
+            Post post = postRepository.findWithDetailsById(id)
+                    .orElseThrow(() -> {
+                        log.warn("Post not found with id: {}", id);
+                        postIdFilter.markMissing(id);
+                        return new PostNotFoundException(
+                                String.format("Post with ID '%s' not found.", id));
+                    });
+
+            log.info("Successfully fetched post: {}", post.getTitle());
+
+            return postMapper.toDto(post);
+        });
+    }
+
+    @Override
+    public Optional<Long> getPostVersion(UUID id) {
+        if (!postIdFilter.mightExist(id)) {
+            return Optional.empty();
+        }
+
+        return postCache.currentVersion(id, () -> postRepository.findVersionById(id));
+    }
+
+    @Override
+    // not transactional: the cache is read first and misses are loaded with their associations in one query
+    public List<PostDto> getPosts(List<UUID> ids) {
+        log.info("Fetching {} posts by id", ids.size());
 
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Post not found with id: {}", id);
-                    return new PostNotFoundException(
-                            String.format("Post with ID '%s' not found.", id));
-                });
+        Set<UUID> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("At most %d posts can be fetched at once.", MAX_BATCH_SIZE));
+        }
 
-        log.info("Successfully fetched post: {}", post.getTitle());
+        List<UUID> knownIds = requestedIds.stream()
+                .filter(postIdFilter::mightExist)
+                .toList();
+        Map<UUID, PostDto> postsById = findPosts(knownIds);
+        knownIds.stream()
+                .filter(id -> !postsById.containsKey(id))
+                .forEach(postIdFilter::markMissing);
 
-        return postMapper.toDto(post);
+        List<PostDto> posts = requestedIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("Found {} of {} requested posts", posts.size(), requestedIds.size());
+
+        return posts;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getDraftPosts(User user, Pageable pageable) {
+    public Page<PostSummaryDto> getDraftPosts(User user, Pageable pageable) {
         log.info("Fetching draft posts for user: {}", user.getId());
 
-        Page<Post> draftPosts = postRepository.findAllByAuthorAndStatus(
+        Page<PostSummaryView> draftPosts = postRepository.findSummariesByAuthorAndStatus(
                 user, PostStatusEnum.DRAFT, pageable);
 
         log.info("Found {} draft posts for user {}",
                 draftPosts.getTotalElements(), user.getId());
-        return draftPosts.map(postMapper::toDto);
+        return toSummaries(draftPosts);
+    }
+
+    /**
+     * Builds the summaries of a cached listing page with one summary query, in the order
+     * of the cached ids. Posts deleted since the page was cached are left out.
+     */
+    private Page<PostSummaryDto> hydrate(PostIdPage idPage, Pageable pageable) {
+        if (idPage.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.totalElements());
+        }
+
+        Map<UUID, PostSummaryDto> summariesById = new HashMap<>();
+        toSummaries(postRepository.findSummariesByIdIn(idPage.ids()))
+                .forEach(summary -> summariesById.put(summary.getId(), summary));
+
+        List<PostSummaryDto> content = idPage.ids().stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, idPage.totalElements());
+    }
+
+    private Page<PostSummaryDto> toSummaries(Page<PostSummaryView> views) {
+        return new PageImpl<>(toSummaries(views.getContent()), views.getPageable(), views.getTotalElements());
+    }
+
+    // tags of all posts in one query, the summary rows are one per post
+    private List<PostSummaryDto> toSummaries(List<PostSummaryView> views) {
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Set<TagDto>> tagsByPostId = new HashMap<>();
+        List<UUID> postIds = views.stream().map(PostSummaryView::getId).toList();
+        for (PostTagView tag : postRepository.findTagsByPostIdIn(postIds)) {
+            tagsByPostId.computeIfAbsent(tag.getPostId(), id -> new HashSet<>())
+                    .add(TagDto.builder().id(tag.getId()).name(tag.getName()).build());
+        }
+
+        return views.stream()
+                .map(view -> postMapper.toSummaryDto(view, tagsByPostId.getOrDefault(view.getId(), new HashSet<>())))
+                .toList();
+    }
+
+    /**
+     * Reads the posts from the cache in one round-trip, loads the misses in one query and
+     * caches them in one pipeline. Ids of posts that do not exist are absent from the result.
+     */
+    private Map<UUID, PostDto> findPosts(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, PostDto> postsById = new HashMap<>(postCache.getAll(ids));
+        List<UUID> missingIds = ids.stream()
+                .filter(id -> !postsById.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            log.debug("Loading {} posts missing from cache", missingIds.size());
+            List<PostDto> loadedPosts = new ArrayList<>();
+            for (Post post : postRepository.findAllByIdIn(missingIds)) {
+                PostDto postDto = postMapper.toDto(post);
+                postsById.put(post.getId(), postDto);
+                loadedPosts.add(postDto);
+            }
+            postCache.putAll(loadedPosts);
+        }
+
+        return postsById;
     }
 }
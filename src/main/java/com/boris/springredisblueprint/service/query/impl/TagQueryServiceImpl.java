@@ -1,5 +1,7 @@
 package com.boris.springredisblueprint.service.query.impl;
 
+import com.boris.springredisblueprint.cache.CacheNames;
+import com.boris.springredisblueprint.cache.ReferenceDataIndex;
 import com.boris.springredisblueprint.exception.TagNotFoundException;
 import com.boris.springredisblueprint.mapper.TagMapper;
 import com.boris.springredisblueprint.model.dto.TagDto;
@@ -8,11 +10,10 @@ import com.boris.springredisblueprint.repository.TagRepository;
 import com.boris.springredisblueprint.service.query.TagQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 
 @Log4j2
 @Service
@@ -20,8 +21,10 @@ import java.util.UUID;
 public class TagQueryServiceImpl implements TagQueryService {
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final ReferenceDataIndex referenceDataIndex;
 
     @Override
+    @Cacheable(CacheNames.TAG_LIST_CACHE)
     public List<TagDto> getTags() {
         List<TagDto> tags = tagRepository.findAllWithPostCount().stream()
                 .map(tagMapper::toDto)
@@ -36,6 +39,12 @@ public class TagQueryServiceImpl implements TagQueryService {
     public Tag getTagById(UUID id) {
         log.info("Fetching tag with id: {}", id);
 
+        Optional<Tag> indexedTag = referenceDataIndex.findTag(id);
+        if (indexedTag.isPresent()) {
+            return indexedTag.get();
+        }
+
+        // not in the index yet, e.g. created on another node moments ago
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Tag not found with id: {}", id);
@@ -52,7 +61,16 @@ public class TagQueryServiceImpl implements TagQueryService {
     public List<Tag> getTagByIds(Set<UUID> ids) {
         log.info("Fetching tag with id: {}", ids.toArray());
 
-        List<Tag> foundTags = tagRepository.findAllById(ids);
+        List<Tag> foundTags = new ArrayList<>(ids.size());
+        Set<UUID> missingIds = new HashSet<>();
+        for (UUID id : ids) {
+            referenceDataIndex.findTag(id).ifPresentOrElse(foundTags::add, () -> missingIds.add(id));
+        }
+
+        if (!missingIds.isEmpty()) {
+            foundTags.addAll(tagRepository.findAllById(missingIds));
+        }
+
         if (foundTags.size() != ids.size()) {
             throw new TagNotFoundException("Not all specified tag IDs exist.");
         }
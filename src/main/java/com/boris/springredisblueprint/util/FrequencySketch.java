@@ -0,0 +1,108 @@
+package com.boris.springredisblueprint.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe count-min sketch estimating how often keys were seen recently, as used by
+ * TinyLFU admission.
+ * <p>
+ * Four rows of 4-bit counters, sixteen per {@code long}, so a key costs no memory of its
+ * own and counts saturate at {@value #MAX_FREQUENCY}. The estimate is the smallest of the
+ * key's four counters and may overcount, never undercount. After ten increments per
+ * counter slot every counter is halved, so keys that stop being seen fade out.
+ */
+public final class FrequencySketch {
+    public static final int MAX_FREQUENCY = 15;
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+            0x97cb3127L, 0xab6e1f8fL, 0xc3a5c85cL, 0x9ae16a3bL
+    };
+    private static final long HALF_MASK = 0x7777777777777777L;
+
+    private final AtomicLongArray counters;
+    private final int widthMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    public FrequencySketch(int expectedKeys) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive.");
+        }
+
+        int width = Integer.highestOneBit(Math.max(16, expectedKeys) - 1) << 1;
+        this.counters = new AtomicLongArray(Math.multiplyExact(width, DEPTH) >>> 4);
+        this.widthMask = width - 1;
+        this.sampleSize = Math.multiplyExact(width, 10);
+    }
+
+    public int frequency(Object key) {
+        long hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            long word = counters.get(index >>> 4);
+            frequency = Math.min(frequency, (int) ((word >>> shiftOf(index)) & 0xf));
+        }
+
+        return frequency;
+    }
+
+    public void increment(Object key) {
+        long hash = spread(key.hashCode());
+        boolean incremented = false;
+        for (int row = 0; row < DEPTH; row++) {
+            incremented |= incrementAt(indexOf(hash, row));
+        }
+
+        if (incremented && additions.incrementAndGet() >= sampleSize) {
+            age();
+        }
+    }
+
+    private boolean incrementAt(int index) {
+        int shift = shiftOf(index);
+        while (true) {
+            long word = counters.get(index >>> 4);
+            if (((word >>> shift) & 0xf) == MAX_FREQUENCY) {
+                return false;
+            }
+            if (counters.compareAndSet(index >>> 4, word, word + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void age() {
+        // another thread may have aged while this one waited for the lock
+        if (additions.get() < sampleSize) {
+            return;
+        }
+
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, word -> (word >>> 1) & HALF_MASK);
+        }
+        additions.updateAndGet(count -> count / 2);
+    }
+
+    private int indexOf(long hash, int row) {
+        long rowHash = mix(hash + SEEDS[row]);
+        return row * (widthMask + 1) + (int) (rowHash & widthMask);
+    }
+
+    private static int shiftOf(int index) {
+        return (index & 15) << 2;
+    }
+
+    private static long spread(int hashCode) {
+        return mix(hashCode * 0x9e3779b97f4a7c15L);
+    }
+
+    private static long mix(long value) {
+        // SplitMix64 finalizer, decorrelates the rows from each other
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
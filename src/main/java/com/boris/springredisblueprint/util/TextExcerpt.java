@@ -0,0 +1,57 @@
+package com.boris.springredisblueprint.util;
+
+/**
+ * Plain-text excerpt of a post body for listings.
+ * <p>
+ * Runs of whitespace collapse to a single space. Text longer than the limit is cut at the
+ * last word boundary within it, or mid-word if the first word alone is too long, and
+ * ends with an ellipsis. {@code V6__add_post_excerpt.sql} backfills existing posts with
+ * the same rules.
+ */
+public final class TextExcerpt {
+    private static final char ELLIPSIS = '…';
+
+    private TextExcerpt() {
+    }
+
+    public static String of(CharSequence text, int maxLength) {
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Excerpt length must be positive.");
+        }
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder collapsed = new StringBuilder(Math.min(text.length(), maxLength + 1));
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length() && collapsed.length() <= maxLength; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = !collapsed.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                collapsed.append(' ');
+                pendingSpace = false;
+            }
+            collapsed.append(c);
+        }
+
+        if (collapsed.length() <= maxLength) {
+            return collapsed.toString();
+        }
+
+        // the character after the limit tells whether the text breaks right there
+        int end = maxLength;
+        if (collapsed.charAt(maxLength) != ' ') {
+            int lastSpace = collapsed.lastIndexOf(" ", maxLength - 1);
+            if (lastSpace > 0) {
+                end = lastSpace;
+            } else if (Character.isHighSurrogate(collapsed.charAt(end - 1))) {
+                end--;
+            }
+        }
+
+        return collapsed.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+}
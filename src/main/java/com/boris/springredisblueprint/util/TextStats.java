@@ -0,0 +1,52 @@
+package com.boris.springredisblueprint.util;
+
+/**
+ * Word and character statistics of a text, computed in a single pass without
+ * allocating intermediate strings or arrays.
+ * <p>
+ * A word is a maximal run of non-whitespace code points, where whitespace covers
+ * every Unicode space separator (including no-break spaces) in addition to the
+ * characters matched by {@link Character#isWhitespace(int)}. Characters are counted
+ * as code points, so a surrogate pair counts once.
+ */
+public record TextStats(int wordCount, int characterCount) {
+    public static final TextStats EMPTY = new TextStats(0, 0);
+
+    public static TextStats of(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+
+        int words = 0;
+        int characters = 0;
+        boolean inWord = false;
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, text.charAt(++i));
+            }
+
+            characters++;
+            if (isWhitespace(codePoint)) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                words++;
+            }
+        }
+
+        return new TextStats(words, characters);
+    }
+
+    private static boolean isWhitespace(int codePoint) {
+        // fast path for ASCII, which is the bulk of any post body
+        if (codePoint < 0x80) {
+            return codePoint == ' ' || (codePoint >= 0x09 && codePoint <= 0x0D) || (codePoint >= 0x1C && codePoint <= 0x1F);
+        }
+
+        return Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint);
+    }
+}
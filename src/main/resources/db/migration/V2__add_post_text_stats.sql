@@ -0,0 +1,12 @@
+-- Post text statistics, maintained on create/update
+ALTER TABLE posts
+    ADD COLUMN word_count      INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN character_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill existing posts
+UPDATE posts
+SET character_count = char_length(content);
+
+UPDATE posts
+SET word_count = array_length(regexp_split_to_array(btrim(content, E' \t\n\r\f'), E'\\s+'), 1)
+WHERE content ~ E'\\S';
@@ -0,0 +1,20 @@
+-- Denormalized published post counters, maintained by the post command service
+ALTER TABLE tags
+    ADD COLUMN published_post_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE categories
+    ADD COLUMN published_post_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill existing counters
+UPDATE tags t
+SET published_post_count = (SELECT COUNT(*)
+                            FROM post_tags pt
+                                     JOIN posts p ON p.id = pt.post_id
+                            WHERE pt.tag_id = t.id
+                              AND p.status = 'PUBLISHED');
+
+UPDATE categories c
+SET published_post_count = (SELECT COUNT(*)
+                            FROM posts p
+                            WHERE p.category_id = c.id
+                              AND p.status = 'PUBLISHED');
@@ -0,0 +1,6 @@
+-- Keyset pagination of the published feed, newest first
+CREATE INDEX idx_posts_status_created_at_id
+    ON posts (status, created_at DESC, id DESC);
+
+CREATE INDEX idx_posts_category_status_created_at_id
+    ON posts (category_id, status, created_at DESC, id DESC);
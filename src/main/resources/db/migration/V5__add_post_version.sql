@@ -0,0 +1,3 @@
+-- Optimistic locking and cache versioning of posts, incremented on every update
+ALTER TABLE posts
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
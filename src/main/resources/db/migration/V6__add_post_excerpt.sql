@@ -0,0 +1,13 @@
+-- Plain-text excerpt shown in post listings, maintained on create/update
+ALTER TABLE posts
+    ADD COLUMN excerpt VARCHAR(255) NOT NULL DEFAULT '';
+
+-- Backfill existing posts: collapse whitespace, keep up to 200 characters and cut
+-- longer text at the last word boundary, as TextExcerpt does
+UPDATE posts p
+SET excerpt = CASE
+    WHEN char_length(c.collapsed) <= 200 THEN c.collapsed
+    ELSE coalesce(nullif(regexp_replace(left(c.collapsed, 201), E'\\s*\\S*$', ''), ''), left(c.collapsed, 200)) || '…'
+END
+FROM (SELECT id, btrim(regexp_replace(content, E'\\s+', ' ', 'g')) AS collapsed FROM posts) c
+WHERE p.id = c.id;
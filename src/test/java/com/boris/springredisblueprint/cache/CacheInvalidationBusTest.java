@@ -0,0 +1,103 @@
+package com.boris.springredisblueprint.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus")
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+    private static final String CACHE_NAME = "test-cache";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private TwoTierCache cache;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        when(cache.getName()).thenReturn(CACHE_NAME);
+        bus = new CacheInvalidationBus(redisTemplate, CHANNEL);
+        bus.register(cache);
+    }
+
+    @Test
+    @DisplayName("should evict the local copy when another node evicts a key")
+    void shouldEvictOnForeignEvict() {
+        bus.onMessage(message("other-node|" + CACHE_NAME + "|key"), null);
+
+        verify(cache).evictLocal("key");
+        verify(cache, never()).clearLocal();
+    }
+
+    @Test
+    @DisplayName("should clear the local tier when another node clears the cache")
+    void shouldClearOnForeignClear() {
+        bus.onMessage(message("other-node|" + CACHE_NAME + "|*"), null);
+
+        verify(cache).clearLocal();
+    }
+
+    @Test
+    @DisplayName("should keep keys containing the separator intact")
+    void shouldKeepSeparatorInKey() {
+        bus.onMessage(message("other-node|" + CACHE_NAME + "|page|1"), null);
+
+        verify(cache).evictLocal("page|1");
+    }
+
+    @Test
+    @DisplayName("should ignore its own messages")
+    void shouldIgnoreSelfOriginatedMessages() {
+        bus.publishEvict(CACHE_NAME, "key");
+        bus.publishClear(CACHE_NAME);
+
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), payloads.capture());
+        payloads.getAllValues().forEach(payload -> bus.onMessage(message(payload), null));
+
+        verify(cache, never()).evictLocal(anyString());
+        verify(cache, never()).clearLocal();
+    }
+
+    @Test
+    @DisplayName("should ignore messages for unknown caches and malformed messages")
+    void shouldIgnoreUnknownMessages() {
+        bus.onMessage(message("other-node|unknown-cache|key"), null);
+        bus.onMessage(message("garbage"), null);
+
+        verify(cache, never()).evictLocal(anyString());
+        verify(cache, never()).clearLocal();
+    }
+
+    @Test
+    @DisplayName("should not propagate publish failures")
+    void shouldSwallowPublishFailures() {
+        when(redisTemplate.convertAndSend(eq(CHANNEL), anyString()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        bus.publishEvict(CACHE_NAME, "key");
+    }
+
+    private static DefaultMessage message(String payload) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package com.boris.springredisblueprint.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheRegistry")
+class CacheRegistryTest {
+
+    @Nested
+    @DisplayName("constructor")
+    class Constructor {
+
+        @Test
+        @DisplayName("should reject a cache registered twice")
+        void shouldRejectDuplicateCache() {
+            List<CacheSpec> specs = List.of(buildSpec("CACHE", false), buildSpec("CACHE", false));
+
+            assertThatThrownBy(() -> new CacheRegistry(specs))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("registered more than once");
+        }
+
+        @Test
+        @DisplayName("should reject a cache without a positive TTL")
+        void shouldRejectMissingTtl() {
+            CacheSpec spec = buildSpec("CACHE", false).toBuilder().ttl(Duration.ZERO).build();
+
+            assertThatThrownBy(() -> new CacheRegistry(List.of(spec)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("TTL");
+        }
+    }
+
+    @Nested
+    @DisplayName("redisCacheConfigurations")
+    class RedisCacheConfigurations {
+
+        @Test
+        @DisplayName("should build one configuration per cache with its own TTL")
+        void shouldBuildConfigurationPerCache() {
+            CacheRegistry registry = new CacheRegistry(List.of(
+                    buildSpec("FIRST", true),
+                    buildSpec("SECOND", false).toBuilder().ttl(Duration.ofHours(1)).build()));
+
+            var configurations = registry.redisCacheConfigurations();
+
+            assertThat(configurations).containsOnlyKeys("FIRST", "SECOND");
+            RedisCacheConfiguration second = configurations.get("SECOND");
+            assertThat(second.getTtlFunction().getTimeToLive("key", "value")).isEqualTo(Duration.ofHours(1));
+            assertThat(second.getAllowCacheNullValues()).isFalse();
+            assertThat(registry.nearCacheNames()).containsExactly("FIRST");
+        }
+    }
+
+    @Test
+    @DisplayName("should fail when an unknown cache is requested")
+    void shouldFailForUnknownCache() {
+        CacheRegistry registry = new CacheRegistry(List.of(buildSpec("CACHE", false)));
+
+        assertThatThrownBy(() -> registry.get("UNKNOWN"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UNKNOWN");
+    }
+
+    private CacheSpec buildSpec(String name, boolean nearCache) {
+        return CacheSpec.builder()
+                .name(name)
+                .valueType(JsonMapper.builder().build().getTypeFactory().constructType(String.class))
+                .ttl(Duration.ofMinutes(10))
+                .serializer(RedisSerializer.string())
+                .nearCache(nearCache)
+                .build();
+    }
+}
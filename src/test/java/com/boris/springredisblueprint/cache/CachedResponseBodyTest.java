@@ -0,0 +1,56 @@
+package com.boris.springredisblueprint.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachedResponseBody")
+class CachedResponseBodyTest {
+
+    private static final byte[] JSON = "{\"title\":\"Hello\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("should keep a body below the threshold uncompressed")
+    void shouldNotCompressSmallBody() {
+        CachedResponseBody body = CachedResponseBody.of(JSON, 3, 1024);
+
+        assertThat(body.gzipped()).isFalse();
+        assertThat(body.body()).isEqualTo(JSON);
+        assertThat(body.json()).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("should gzip a body above the threshold and decompress it on demand")
+    void shouldCompressLargeBody() {
+        byte[] json = ("[" + "{\"title\":\"Hello\"},".repeat(100) + "{}]").getBytes(StandardCharsets.UTF_8);
+
+        CachedResponseBody body = CachedResponseBody.of(json, 3, 1024);
+
+        assertThat(body.gzipped()).isTrue();
+        assertThat(body.body().length).isLessThan(json.length);
+        assertThat(body.json()).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("should round trip through its stored form")
+    void shouldRoundTrip() {
+        CachedResponseBody body = CachedResponseBody.of(JSON, 1_760_000_000_000_000L, 1);
+
+        CachedResponseBody restored = CachedResponseBody.fromBytes(body.toBytes());
+
+        assertThat(restored.gzipped()).isTrue();
+        assertThat(restored.version()).isEqualTo(1_760_000_000_000_000L);
+        assertThat(restored.json()).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("should reject bytes that were not written as a cached body")
+    void shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> CachedResponseBody.fromBytes(JSON)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachedResponseBody.fromBytes(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
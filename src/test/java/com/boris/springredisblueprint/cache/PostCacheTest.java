@@ -0,0 +1,412 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.PostDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCache")
+class PostCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheRegistry cacheRegistry;
+
+    @Mock
+    private Cache postCache;
+
+    @Mock
+    private RedisSerializer<PostDto> serializer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostCache cache;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheNames.POST_CACHE)).thenReturn(postCache);
+        when(cacheRegistry.get(CacheNames.POST_CACHE)).thenReturn(CacheSpec.builder()
+                .name(CacheNames.POST_CACHE)
+                .ttl(Duration.ofHours(1))
+                .serializer(serializer)
+                .build());
+        cache = newPostCache(1);
+    }
+
+    @Nested
+    @DisplayName("put")
+    class Put {
+
+        @Test
+        @DisplayName("should write the entry guarded by the version floor of the post")
+        @SuppressWarnings("unchecked")
+        void shouldWriteAgainstVersionFloor() {
+            PostDto post = PostDto.builder().id(id).version(3L).build();
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(1L);
+
+            assertThat(cache.put(post)).isTrue();
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                    eq(List.of("POST_CACHE::" + id, PostCache.VERSION_KEY_PREFIX + id)), any(), any(), any());
+            verify(serializer).serialize(post);
+        }
+
+        @Test
+        @DisplayName("should report a stale version rejected by the floor")
+        @SuppressWarnings("unchecked")
+        void shouldRejectStaleVersion() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(0L);
+
+            assertThat(cache.put(PostDto.builder().id(id).version(2L).build())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("getAll")
+    class GetAll {
+
+        @Test
+        @DisplayName("should read every id with one MGET and skip the ones not cached")
+        @SuppressWarnings("unchecked")
+        void shouldReadWithOneMget() {
+            UUID missingId = UUID.randomUUID();
+            PostDto post = PostDto.builder().id(id).build();
+            byte[] value = {1, 2, 3};
+            when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(Arrays.asList(value, null));
+            when(serializer.deserialize(value)).thenReturn(post);
+
+            Map<UUID, PostDto> result = cache.getAll(List.of(id, missingId));
+
+            assertThat(result).containsExactly(entry(id, post));
+            verify(stringRedisTemplate, times(1)).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("should treat a failing MGET as misses")
+        @SuppressWarnings("unchecked")
+        void shouldMissWhenMgetFails() {
+            when(stringRedisTemplate.execute(any(RedisCallback.class)))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            assertThat(cache.getAll(List.of(id))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("putAll")
+    class PutAll {
+
+        @Test
+        @DisplayName("should write all posts in one pipeline and count the accepted ones")
+        @SuppressWarnings("unchecked")
+        void shouldWriteInOnePipeline() {
+            List<PostDto> posts = List.of(
+                    PostDto.builder().id(id).version(1L).build(),
+                    PostDto.builder().id(UUID.randomUUID()).version(1L).build());
+            when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L, 0L));
+
+            assertThat(cache.putAll(posts)).isEqualTo(1);
+            verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("should skip Redis when no post is admitted")
+        void shouldSkipRedisWhenNothingIsAdmitted() {
+            PostCache coldCache = newPostCache(2);
+
+            assertThat(coldCache.putAll(List.of(PostDto.builder().id(id).version(1L).build()))).isZero();
+            verifyNoInteractions(stringRedisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("currentVersion")
+    class CurrentVersion {
+
+        @Test
+        @DisplayName("should read the version from the floor without loading")
+        void shouldReadFloor() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(PostCache.VERSION_KEY_PREFIX + id)).thenReturn("6");
+
+            assertThat(cache.currentVersion(id, () -> {
+                throw new AssertionError("loader must not be called");
+            })).contains(6L);
+        }
+
+        @Test
+        @DisplayName("should report a deleted post as having no version")
+        void shouldHideDeletedPost() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(PostCache.VERSION_KEY_PREFIX + id))
+                    .thenReturn(String.valueOf(PostChangedEvent.DELETED));
+
+            assertThat(cache.currentVersion(id, () -> Optional.of(1L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should load the version and record it as the floor when there is none")
+        @SuppressWarnings("unchecked")
+        void shouldSeedFloor() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+            assertThat(cache.currentVersion(id, () -> Optional.of(2L))).contains(2L);
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(PostCache.VERSION_KEY_PREFIX + id)), eq("2"), eq("3600000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("onPostChanged")
+    class OnPostChanged {
+
+        @Test
+        @DisplayName("should raise the version floor before evicting the entry")
+        @SuppressWarnings("unchecked")
+        void shouldRaiseFloorThenEvict() {
+            cache.onPostChanged(new PostChangedEvent(id, 4L));
+
+            InOrder inOrder = inOrder(stringRedisTemplate, postCache);
+            inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(PostCache.VERSION_KEY_PREFIX + id)), eq("4"), eq("3600000"));
+            inOrder.verify(postCache).evict(id);
+        }
+
+        @Test
+        @DisplayName("should write the updated post through instead of evicting it")
+        @SuppressWarnings("unchecked")
+        void shouldWriteThrough() {
+            PostDto post = PostDto.builder().id(id).version(5L).build();
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(1L);
+
+            cache.onPostChanged(new PostChangedEvent(id, 5L, post));
+
+            verify(serializer).serialize(post);
+            verify(postCache, never()).evict(any());
+        }
+
+        @Test
+        @DisplayName("should fall back to eviction when a newer version is already recorded")
+        @SuppressWarnings("unchecked")
+        void shouldEvictWhenWriteThroughIsRejected() {
+            PostDto post = PostDto.builder().id(id).version(5L).build();
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(0L);
+
+            cache.onPostChanged(new PostChangedEvent(id, 5L, post));
+
+            verify(postCache).evict(id);
+        }
+
+        @Test
+        @DisplayName("should still evict when the floor cannot be recorded")
+        @SuppressWarnings("unchecked")
+        void shouldEvictWhenRedisFails() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            cache.onPostChanged(PostChangedEvent.deleted(id, null));
+
+            verify(postCache).evict(id);
+        }
+    }
+
+    @Nested
+    @DisplayName("getOrLoad")
+    class GetOrLoad {
+
+        private final PostDto post = PostDto.builder().id(id).version(1L).build();
+
+        @Test
+        @DisplayName("should serve a cached post without loading")
+        void shouldServeCachedPost() {
+            when(postCache.get(id, PostDto.class)).thenReturn(post);
+
+            assertThat(cache.getOrLoad(id, () -> {
+                throw new AssertionError("loader must not run");
+            })).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should load under a lease and release it afterwards")
+        @SuppressWarnings("unchecked")
+        void shouldLoadUnderLease() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(PostCache.LEASE_KEY_PREFIX + id), anyString(), eq(Duration.ofSeconds(2))))
+                    .thenReturn(true);
+
+            assertThat(cache.getOrLoad(id, () -> post)).isEqualTo(post);
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(PostCache.LEASE_KEY_PREFIX + id)), anyString());
+        }
+
+        @Test
+        @DisplayName("should wait for the node holding the lease instead of loading")
+        void shouldWaitForLeaseholder() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+            when(postCache.get(id, PostDto.class)).thenReturn(null, post);
+
+            assertThat(cache.getOrLoad(id, () -> {
+                throw new AssertionError("loader must not run");
+            })).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should load itself when the leaseholder does not deliver in time")
+        void shouldLoadAfterLeaseWait() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+            assertThat(cache.getOrLoad(id, () -> post)).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should refresh a post loaded by this node once it is about to expire")
+        @SuppressWarnings("unchecked")
+        void shouldRefreshEarly() throws InterruptedException {
+            when(cacheRegistry.get(CacheNames.POST_CACHE)).thenReturn(CacheSpec.builder()
+                    .name(CacheNames.POST_CACHE)
+                    .ttl(Duration.ofMillis(1))
+                    .serializer(serializer)
+                    .build());
+            PostCache shortLived = newPostCache(1);
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(1L);
+            AtomicInteger loads = new AtomicInteger();
+
+            shortLived.getOrLoad(id, () -> {
+                loads.incrementAndGet();
+                return post;
+            });
+            when(postCache.get(id, PostDto.class)).thenReturn(post);
+            Thread.sleep(5);
+            PostDto result = shortLived.getOrLoad(id, () -> {
+                loads.incrementAndGet();
+                return post;
+            });
+
+            assertThat(result).isEqualTo(post);
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class Admission {
+
+        private final PostDto post = PostDto.builder().id(id).version(1L).build();
+
+        @BeforeEach
+        void setUp() {
+            cache = newPostCache(2);
+        }
+
+        @Test
+        @DisplayName("should load a post read for the first time without a lease or a cache write")
+        @SuppressWarnings("unchecked")
+        void shouldNotCacheFirstRead() {
+            assertThat(cache.getOrLoad(id, () -> post)).isEqualTo(post);
+
+            verify(stringRedisTemplate, never()).opsForValue();
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any());
+            assertThat(admissionCount("rejected")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should cache a post once it has been read often enough")
+        @SuppressWarnings("unchecked")
+        void shouldCacheRepeatedReads() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any(), any()))
+                    .thenReturn(1L);
+
+            cache.getOrLoad(id, () -> post);
+            cache.getOrLoad(id, () -> post);
+
+            verify(serializer).serialize(post);
+            assertThat(admissionCount("rejected")).isEqualTo(1);
+            assertThat(admissionCount("admitted")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should evict instead of writing through a post that is rarely read")
+        void shouldEvictColdPostOnUpdate() {
+            cache.onPostChanged(new PostChangedEvent(id, 2L, post));
+
+            verify(serializer, never()).serialize(any());
+            verify(postCache).evict(id);
+        }
+
+        private double admissionCount(String result) {
+            return meterRegistry.get("cache.admission")
+                    .tag("cache", CacheNames.POST_CACHE)
+                    .tag("result", result)
+                    .counter()
+                    .count();
+        }
+    }
+
+    private PostCache newPostCache(int minFrequency) {
+        return new PostCache(stringRedisTemplate, cacheManager, cacheRegistry, false,
+                Duration.ofSeconds(2), Duration.ofMillis(100), 1.0,
+                new CacheAdmissionFilter(CacheNames.POST_CACHE, 1_000, minFrequency, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("should treat a failing read as a miss")
+    void shouldMissWhenReadFails() {
+        when(postCache.get(id, PostDto.class)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertThat(cache.get(id)).isEmpty();
+    }
+}
@@ -0,0 +1,196 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.AuthorDto;
+import com.boris.springredisblueprint.model.dto.CategoryDto;
+import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostDtoBinarySerializer")
+class PostDtoBinarySerializerTest {
+
+    private final JacksonJsonRedisSerializer<PostDto> jsonSerializer = new JacksonJsonRedisSerializer<>(PostDto.class);
+    private final PostDtoBinarySerializer serializer = new PostDtoBinarySerializer(jsonSerializer, 1024);
+
+    @Nested
+    @DisplayName("serialize")
+    class Serialize {
+
+        @Test
+        @DisplayName("should round-trip every field of a post")
+        void shouldRoundTripPost() {
+            PostDto post = buildPostDto("Short content");
+
+            byte[] bytes = serializer.serialize(post);
+
+            assertThat(bytes[0]).isEqualTo(PostDtoBinarySerializer.MAGIC);
+            assertThat(bytes[1]).isEqualTo(PostDtoBinarySerializer.VERSION);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should compress large content and restore it")
+        void shouldCompressLargeContent() {
+            PostDto post = buildPostDto("Redis caching in Spring. ".repeat(2000));
+
+            byte[] bytes = serializer.serialize(post);
+
+            assertThat(bytes.length).isLessThan(post.getContent().length() / 4);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should be smaller than the JSON representation")
+        void shouldBeSmallerThanJson() {
+            PostDto post = buildPostDto("Short content");
+
+            assertThat(serializer.serialize(post).length).isLessThan(jsonSerializer.serialize(post).length);
+        }
+
+        @Test
+        @DisplayName("should omit absent fields")
+        void shouldOmitAbsentFields() {
+            PostDto post = PostDto.builder()
+                    .id(UUID.randomUUID())
+                    .title("Untitled")
+                    .tags(Set.of())
+                    .build();
+
+            assertThat(serializer.deserialize(serializer.serialize(post))).isEqualTo(post);
+        }
+    }
+
+    @Nested
+    @DisplayName("deserialize")
+    class Deserialize {
+
+        @Test
+        @DisplayName("should read entries written by the JSON serializer")
+        void shouldReadJsonEntries() {
+            PostDto post = buildPostDto("Written before the binary format");
+
+            assertThat(serializer.deserialize(jsonSerializer.serialize(post))).isEqualTo(post);
+        }
+
+        @Test
+        @DisplayName("should reject a newer format version")
+        void shouldRejectNewerVersion() {
+            byte[] bytes = serializer.serialize(buildPostDto("content"));
+            bytes[1] = (byte) (PostDtoBinarySerializer.VERSION + 1);
+
+            assertThatThrownBy(() -> serializer.deserialize(bytes))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("version");
+        }
+
+        @Test
+        @DisplayName("should reject deflated content that ends early")
+        void shouldRejectTruncatedContent() {
+            byte[] raw = "Redis caching in Spring. ".repeat(200).getBytes(StandardCharsets.UTF_8);
+            byte[] deflated = deflate(raw);
+
+            byte[] bytes = deflatedContentValue(raw.length, Arrays.copyOf(deflated, deflated.length / 2));
+
+            assertThatThrownBy(() -> serializer.deserialize(bytes))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("Truncated");
+        }
+
+        @Test
+        @DisplayName("should reject a negative content length")
+        void shouldRejectNegativeContentLength() {
+            byte[] bytes = deflatedContentValue(-1, new byte[]{0x03, 0x00});
+
+            assertThatThrownBy(() -> serializer.deserialize(bytes))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("length");
+        }
+
+        @Test
+        @DisplayName("should reject a content length the deflated bytes cannot hold")
+        void shouldRejectOversizedContentLength() {
+            byte[] bytes = deflatedContentValue(Integer.MAX_VALUE, new byte[]{0x03, 0x00});
+
+            assertThatThrownBy(() -> serializer.deserialize(bytes))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("length");
+        }
+
+        @Test
+        @DisplayName("should return null for empty values")
+        void shouldReturnNullForEmptyValues() {
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+        }
+    }
+
+    // header followed by a single deflated content field declaring the given length
+    private static byte[] deflatedContentValue(int declaredLength, byte[] deflated) {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        writeVarint(message, declaredLength & 0xFFFFFFFFL);
+        message.writeBytes(deflated);
+
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        value.write(PostDtoBinarySerializer.MAGIC);
+        value.write(PostDtoBinarySerializer.VERSION);
+        writeVarint(value, 4 << 3 | 2);
+        writeVarint(value, message.size());
+        value.writeBytes(message.toByteArray());
+
+        return value.toByteArray();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] buffer = new byte[raw.length];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private PostDto buildPostDto(String content) {
+        return PostDto.builder()
+                .id(UUID.randomUUID())
+                .title("Caching with Redis")
+                .content(content)
+                .author(AuthorDto.builder().id(UUID.randomUUID()).name("Boris").build())
+                .category(CategoryDto.builder().id(UUID.randomUUID()).name("Backend").postCount(3).build())
+                .tags(Set.of(
+                        TagDto.builder().id(UUID.randomUUID()).name("redis").postCount(2).build(),
+                        TagDto.builder().id(UUID.randomUUID()).name("spring").build()))
+                .readingTime(4)
+                .wordCount(800)
+                .characterCount(4812)
+                .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123_456_789))
+                .updatedAt(LocalDateTime.of(2025, 1, 16, 8, 0))
+                .status(PostStatusEnum.PUBLISHED)
+                .version(7L)
+                .build();
+    }
+}
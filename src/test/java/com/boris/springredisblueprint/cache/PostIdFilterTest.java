@@ -0,0 +1,198 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostIdFilter")
+class PostIdFilterTest {
+
+    private static final String CHANNEL = "post-ids:added";
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private PostIdFilter postIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        postIdFilter = new PostIdFilter(postRepository, redisTemplate, CHANNEL, 1_000, 0.001,
+                Duration.ofMinutes(1), 1_000);
+    }
+
+    @Nested
+    @DisplayName("mightExist")
+    class MightExist {
+
+        @Test
+        @DisplayName("should let every id through until the filter has been built")
+        void shouldAllowEverythingBeforeFirstRebuild() {
+            assertThat(postIdFilter.mightExist(UUID.randomUUID())).isTrue();
+        }
+
+        @Test
+        @DisplayName("should reject ids that are not in the database after a rebuild")
+        void shouldRejectUnknownIdsAfterRebuild() {
+            UUID existing = UUID.randomUUID();
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class))).thenReturn(List.of(existing));
+
+            postIdFilter.rebuild();
+
+            assertThat(postIdFilter.mightExist(existing)).isTrue();
+            assertThat(postIdFilter.mightExist(UUID.randomUUID())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject ids marked missing even before the filter is built")
+        void shouldRejectMissingIds() {
+            UUID id = UUID.randomUUID();
+
+            postIdFilter.markMissing(id);
+
+            assertThat(postIdFilter.mightExist(id)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject deleted posts once the delete has committed")
+        void shouldRejectDeletedPosts() {
+            UUID id = UUID.randomUUID();
+
+            postIdFilter.onPostChanged(PostChangedEvent.deleted(id, null));
+
+            assertThat(postIdFilter.mightExist(id)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not mark updated posts as missing")
+        void shouldIgnoreUpdates() {
+            UUID id = UUID.randomUUID();
+
+            postIdFilter.onPostChanged(new PostChangedEvent(id, 3L));
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("add")
+    class Add {
+
+        @Test
+        @DisplayName("should accept the new id locally and publish it")
+        void shouldAddAndPublish() {
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+            postIdFilter.rebuild();
+            UUID id = UUID.randomUUID();
+
+            postIdFilter.add(id);
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+            verify(redisTemplate).convertAndSend(CHANNEL, id.toString());
+        }
+
+        @Test
+        @DisplayName("should clear a missing mark for the same id")
+        void shouldClearMissingMark() {
+            UUID id = UUID.randomUUID();
+            postIdFilter.markMissing(id);
+
+            postIdFilter.add(id);
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep the id locally when publishing fails")
+        void shouldToleratePublishFailure() {
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+            postIdFilter.rebuild();
+            UUID id = UUID.randomUUID();
+            doThrow(new RuntimeException("down")).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+            postIdFilter.add(id);
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should accept ids announced by other nodes")
+        void shouldAcceptAnnouncedIds() {
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+            postIdFilter.rebuild();
+            UUID id = UUID.randomUUID();
+
+            postIdFilter.onMessage(new DefaultMessage(
+                    CHANNEL.getBytes(StandardCharsets.UTF_8), id.toString().getBytes(StandardCharsets.UTF_8)), null);
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild")
+    class Rebuild {
+
+        @Test
+        @DisplayName("should page through the ids until a page comes back short")
+        void shouldPageThroughIds() {
+            List<UUID> firstPage = new ArrayList<>();
+            IntStream.range(0, PostIdFilter.REBUILD_PAGE_SIZE).forEach(i -> firstPage.add(UUID.randomUUID()));
+            UUID last = UUID.randomUUID();
+            when(postRepository.findIdsAfter(eq(new UUID(0, 0)), any(Limit.class))).thenReturn(firstPage);
+            when(postRepository.findIdsAfter(eq(firstPage.getLast()), any(Limit.class))).thenReturn(List.of(last));
+
+            postIdFilter.rebuild();
+
+            assertThat(postIdFilter.mightExist(firstPage.getFirst())).isTrue();
+            assertThat(postIdFilter.mightExist(last)).isTrue();
+            verify(postRepository, times(2)).findIdsAfter(any(UUID.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("should keep ids added shortly before the rebuild")
+        void shouldKeepRecentlyAddedIds() {
+            UUID id = UUID.randomUUID();
+            postIdFilter.add(id);
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+
+            postIdFilter.rebuild();
+
+            assertThat(postIdFilter.mightExist(id)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep letting every id through when the first rebuild fails")
+        void shouldStayOpenWhenRebuildFails() {
+            when(postRepository.findIdsAfter(any(UUID.class), any(Limit.class)))
+                    .thenThrow(new RuntimeException("db down"));
+
+            assertThatThrownBy(() -> postIdFilter.rebuild()).isInstanceOf(RuntimeException.class);
+            assertThat(postIdFilter.mightExist(UUID.randomUUID())).isTrue();
+        }
+    }
+}
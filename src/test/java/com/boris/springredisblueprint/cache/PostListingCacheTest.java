@@ -0,0 +1,194 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.PostScope;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostListingCache")
+class PostListingCacheTest {
+
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    // generation counters as Redis would hold them
+    private final Map<String, Long> generations = new HashMap<>();
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private PostListingCache postListingCache;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheNames.POST_LISTING_CACHE))
+                .thenReturn(new ConcurrentMapCache(CacheNames.POST_LISTING_CACHE));
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.multiGet(anyList())).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(0);
+            return keys.stream()
+                    .map(key -> generations.containsKey(key) ? String.valueOf(generations.get(key)) : null)
+                    .toList();
+        });
+        lenient().when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            RedisCallback<?> callback = inv.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        lenient().when(stringCommands.incr(any())).thenAnswer(inv ->
+                generations.merge(new String(inv.<byte[]>getArgument(0), StandardCharsets.UTF_8), 1L, Long::sum));
+
+        postListingCache = new PostListingCache(stringRedisTemplate, cacheManager);
+    }
+
+    @Nested
+    @DisplayName("keyFor")
+    class KeyFor {
+
+        @Test
+        @DisplayName("should not cache unpaged listings")
+        void shouldSkipUnpagedListings() {
+            assertThat(postListingCache.keyFor(null, null, Pageable.unpaged())).isNull();
+            verifyNoInteractions(valueOperations);
+        }
+
+        @Test
+        @DisplayName("should skip the cache when the generations cannot be read")
+        void shouldSkipCacheWhenRedisFails() {
+            when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            assertThat(postListingCache.keyFor(null, null, firstPage)).isNull();
+        }
+
+        @Test
+        @DisplayName("should resolve different keys for different filters")
+        void shouldSeparateFilters() {
+            UUID categoryId = UUID.randomUUID();
+
+            assertThat(postListingCache.keyFor(categoryId, null, firstPage))
+                    .isNotEqualTo(postListingCache.keyFor(null, null, firstPage));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate")
+    class Invalidate {
+
+        @Test
+        @DisplayName("should make pages of the published post's listings unreachable")
+        void shouldInvalidateListingsOfScope() {
+            UUID categoryId = UUID.randomUUID();
+            UUID tagId = UUID.randomUUID();
+            String allKey = postListingCache.keyFor(null, null, firstPage);
+            String categoryKey = postListingCache.keyFor(categoryId, null, firstPage);
+            String tagKey = postListingCache.keyFor(null, tagId, firstPage);
+
+            postListingCache.invalidate(new PostScope(PostStatusEnum.PUBLISHED, categoryId, Set.of(tagId)));
+
+            assertThat(postListingCache.keyFor(null, null, firstPage)).isNotEqualTo(allKey);
+            assertThat(postListingCache.keyFor(categoryId, null, firstPage)).isNotEqualTo(categoryKey);
+            assertThat(postListingCache.keyFor(null, tagId, firstPage)).isNotEqualTo(tagKey);
+        }
+
+        @Test
+        @DisplayName("should leave listings of other categories alone")
+        void shouldKeepUnrelatedListings() {
+            UUID otherCategoryId = UUID.randomUUID();
+            String otherKey = postListingCache.keyFor(otherCategoryId, null, firstPage);
+
+            postListingCache.invalidate(new PostScope(PostStatusEnum.PUBLISHED, UUID.randomUUID(), Set.of()));
+
+            assertThat(postListingCache.keyFor(otherCategoryId, null, firstPage)).isEqualTo(otherKey);
+        }
+
+        @Test
+        @DisplayName("should not touch Redis for drafts, which appear in no published listing")
+        void shouldIgnoreDrafts() {
+            postListingCache.invalidate(new PostScope(PostStatusEnum.DRAFT, UUID.randomUUID(), Set.of()), null);
+
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("onPostChanged")
+    class OnPostChanged {
+
+        @Test
+        @DisplayName("should invalidate the listings of both the previous and the current scope")
+        void shouldInvalidateBothScopes() {
+            UUID oldCategoryId = UUID.randomUUID();
+            UUID newCategoryId = UUID.randomUUID();
+            String oldKey = postListingCache.keyFor(oldCategoryId, null, firstPage);
+            String newKey = postListingCache.keyFor(newCategoryId, null, firstPage);
+
+            postListingCache.onPostChanged(new PostChangedEvent(UUID.randomUUID(), 2L, null,
+                    new PostScope(PostStatusEnum.PUBLISHED, oldCategoryId, Set.of()),
+                    new PostScope(PostStatusEnum.PUBLISHED, newCategoryId, Set.of())));
+
+            assertThat(postListingCache.keyFor(oldCategoryId, null, firstPage)).isNotEqualTo(oldKey);
+            assertThat(postListingCache.keyFor(newCategoryId, null, firstPage)).isNotEqualTo(newKey);
+        }
+
+        @Test
+        @DisplayName("should not let a listing read before the commit repopulate the new generation")
+        void shouldNotServePageCachedBeforeCommit() {
+            UUID postId = UUID.randomUUID();
+            PostScope scope = new PostScope(PostStatusEnum.PUBLISHED, UUID.randomUUID(), Set.of());
+
+            // a reader resolves its key and queries the rows while the creating transaction is still open
+            String readerKey = postListingCache.keyFor(null, null, firstPage);
+            PostIdPage stalePage = new PostIdPage(List.of(), 0);
+
+            // the transaction commits, then the listener bumps the generation
+            postListingCache.onPostChanged(PostChangedEvent.created(postId, scope));
+
+            // the reader only now writes its page
+            postListingCache.put(readerKey, stalePage);
+
+            String keyAfterCommit = postListingCache.keyFor(null, null, firstPage);
+            assertThat(keyAfterCommit).isNotEqualTo(readerKey);
+            assertThat(postListingCache.get(keyAfterCommit)).isEmpty();
+        }
+    }
+}
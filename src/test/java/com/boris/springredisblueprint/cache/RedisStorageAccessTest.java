@@ -0,0 +1,127 @@
+package com.boris.springredisblueprint.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStorageAccess")
+class RedisStorageAccessTest {
+
+    private static final String REGION_KEY = RedisRegionFactory.KEY_PREFIX + EntityCacheRegions.CATEGORIES;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Nested
+    @DisplayName("entries")
+    class Entries {
+
+        @Test
+        @DisplayName("should store entries as fields of the region hash and refresh its expiry")
+        void shouldPutIntoRegionHash() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, TTL);
+
+            storageAccess.putIntoCache(id, "entry", null);
+
+            verify(hashOperations).put(REGION_KEY, id.toString(), "entry");
+            verify(redisTemplate).expire(REGION_KEY, TTL);
+        }
+
+        @Test
+        @DisplayName("should never expire a region without a ttl")
+        void shouldNotExpireTimestamps() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, null);
+
+            storageAccess.putIntoCache("users", 42L, null);
+
+            verify(hashOperations).put(REGION_KEY, "users", 42L);
+            verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("should read entries by id")
+        void shouldGetFromRegionHash() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, TTL);
+            when(hashOperations.get(REGION_KEY, id.toString())).thenReturn("entry");
+
+            assertThat(storageAccess.getFromCache(id, null)).isEqualTo("entry");
+        }
+
+        @Test
+        @DisplayName("should treat a Redis failure as a miss")
+        void shouldMissWhenRedisFails() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, TTL);
+            when(hashOperations.get(REGION_KEY, id.toString()))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            assertThat(storageAccess.getFromCache(id, null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should evict a whole region with a single delete")
+        void shouldDeleteRegionHash() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, TTL);
+
+            storageAccess.evictData();
+
+            verify(redisTemplate).delete(REGION_KEY);
+            verifyNoInteractions(hashOperations);
+        }
+
+        @Test
+        @DisplayName("should evict a single entry by id")
+        void shouldDeleteField() {
+            RedisStorageAccess storageAccess = new RedisStorageAccess(redisTemplate, REGION_KEY, TTL);
+
+            storageAccess.removeFromCache(id, null);
+
+            verify(hashOperations).delete(REGION_KEY, id.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("field")
+    class Field {
+
+        @Test
+        @DisplayName("should identify composite keys by a stable digest")
+        void shouldDigestCompositeKeys() {
+            String first = RedisStorageAccess.field(List.of("select u from User u", "alice@example.com"));
+            String second = RedisStorageAccess.field(List.of("select u from User u", "alice@example.com"));
+            String other = RedisStorageAccess.field(List.of("select u from User u", "bob@example.com"));
+
+            assertThat(first).isEqualTo(second).isNotEqualTo(other);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.projection.CategoryPostCount;
+import com.boris.springredisblueprint.model.projection.TagPostCount;
+import com.boris.springredisblueprint.repository.CategoryRepository;
+import com.boris.springredisblueprint.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataIndex")
+class ReferenceDataIndexTest {
+
+    private static final String CHANNEL = "reference-data:changed";
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ReferenceDataIndex referenceDataIndex;
+
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID tagId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        referenceDataIndex = new ReferenceDataIndex(categoryRepository, tagRepository, redisTemplate, CHANNEL);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(categoryRepository.findAllWithPostCount()).thenReturn(List.of(category(categoryId, "Backend")));
+        lenient().when(tagRepository.findAllWithPostCount()).thenReturn(List.of(tag(tagId, "redis")));
+    }
+
+    @Nested
+    @DisplayName("lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("should resolve categories and tags from the loaded snapshot")
+        void shouldResolveFromSnapshot() {
+            when(valueOperations.get(ReferenceDataIndex.VERSION_KEY)).thenReturn("3");
+            referenceDataIndex.refresh();
+
+            Category category = referenceDataIndex.findCategory(categoryId).orElseThrow();
+
+            assertThat(category.getName()).isEqualTo("Backend");
+            assertThat(referenceDataIndex.findTag(tagId)).get().extracting("name").isEqualTo("redis");
+            assertThat(referenceDataIndex.findCategory(UUID.randomUUID())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should find nothing before the first load")
+        void shouldBeEmptyBeforeLoad() {
+            assertThat(referenceDataIndex.findCategory(categoryId)).isEmpty();
+            verifyNoInteractions(categoryRepository, tagRepository);
+        }
+
+        @Test
+        @DisplayName("should still load when Redis is unavailable")
+        void shouldLoadWithoutRedis() {
+            when(valueOperations.get(ReferenceDataIndex.VERSION_KEY))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            referenceDataIndex.refresh();
+
+            assertThat(referenceDataIndex.findTag(tagId)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("synchronization")
+    class Synchronization {
+
+        @Test
+        @DisplayName("should bump the version, reload and announce a local change")
+        void shouldPublishLocalChange() {
+            when(valueOperations.increment(ReferenceDataIndex.VERSION_KEY)).thenReturn(4L);
+            when(valueOperations.get(ReferenceDataIndex.VERSION_KEY)).thenReturn("4");
+
+            referenceDataIndex.onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+            assertThat(referenceDataIndex.findCategory(categoryId)).isPresent();
+            verify(redisTemplate).convertAndSend(CHANNEL, "4");
+        }
+
+        @Test
+        @DisplayName("should reload on a newer version from another node and ignore older ones")
+        void shouldReloadOnNewerVersion() {
+            when(valueOperations.get(ReferenceDataIndex.VERSION_KEY)).thenReturn("5");
+            referenceDataIndex.refresh();
+
+            referenceDataIndex.onMessage(message("5"), null);
+            referenceDataIndex.onMessage(message("6"), null);
+
+            verify(categoryRepository, times(2)).findAllWithPostCount();
+        }
+
+        @Test
+        @DisplayName("should reload when the Redis version moved on without a message")
+        void shouldCatchUpOnMissedMessages() {
+            when(valueOperations.get(ReferenceDataIndex.VERSION_KEY)).thenReturn("1", "1", "2", "2");
+            referenceDataIndex.refresh();
+
+            referenceDataIndex.checkVersion();
+            referenceDataIndex.checkVersion();
+
+            verify(tagRepository, times(2)).findAllWithPostCount();
+        }
+    }
+
+    private DefaultMessage message(String version) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), version.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CategoryPostCount category(UUID id, String name) {
+        return new CategoryPostCount() {
+            public UUID getId() {
+                return id;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public Integer getPostCount() {
+                return 0;
+            }
+        };
+    }
+
+    private TagPostCount tag(UUID id, String name) {
+        return new TagPostCount() {
+            public UUID getId() {
+                return id;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public Integer getPostCount() {
+                return 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.boris.springredisblueprint.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceVersions")
+class ResourceVersionsTest {
+
+    private static final String TAGS_KEY = ResourceVersions.KEY_PREFIX + "tags";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersions = new ResourceVersions(stringRedisTemplate);
+    }
+
+    @Nested
+    @DisplayName("current")
+    class Current {
+
+        @Test
+        @DisplayName("should return the stored counter")
+        void shouldReturnCounter() {
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(TAGS_KEY)).thenReturn("42");
+
+            assertThat(resourceVersions.current(ResourceVersions.Resource.TAGS)).isEqualTo(42L);
+            verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("should start a missing counter from the current time")
+        void shouldStartMissingCounter() {
+            long before = System.currentTimeMillis() * 1_000;
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(TAGS_KEY)).thenReturn(null, String.valueOf(before));
+
+            assertThat(resourceVersions.current(ResourceVersions.Resource.TAGS)).isEqualTo(before);
+            verify(valueOperations).setIfAbsent(eq(TAGS_KEY), anyString());
+        }
+
+        @Test
+        @DisplayName("should have no version when Redis is unavailable")
+        void shouldReturnNullWhenRedisFails() {
+            when(stringRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            assertThat(resourceVersions.current(ResourceVersions.Resource.TAGS)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("listeners")
+    class Listeners {
+
+        @Test
+        @DisplayName("should bump every collection when a post changes")
+        @SuppressWarnings("unchecked")
+        void shouldBumpAllOnPostChange() {
+            resourceVersions.onPostChanged(new PostChangedEvent(UUID.randomUUID(), 2L));
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(
+                    ResourceVersions.KEY_PREFIX + "posts", TAGS_KEY, ResourceVersions.KEY_PREFIX + "categories")), anyString());
+        }
+
+        @Test
+        @DisplayName("should bump versions only after the caches a post change affects were invalidated")
+        void shouldBumpAfterCachesWereInvalidated() throws NoSuchMethodException {
+            int bumpOrder = postChangedOrder(ResourceVersions.class);
+
+            assertThat(postChangedOrder(PostCache.class)).isLessThan(bumpOrder);
+            assertThat(postChangedOrder(PostListingCache.class)).isLessThan(bumpOrder);
+            assertThat(postChangedOrder(ResponseBodyCache.class)).isLessThan(bumpOrder);
+        }
+
+        @Test
+        @DisplayName("should bump list versions only after the lists were cleared for a reference data change")
+        void shouldBumpAfterListsWereCleared() throws NoSuchMethodException {
+            assertThat(listenerOrder(ResponseBodyCache.class, "onReferenceDataChanged", ReferenceDataChangedEvent.class))
+                    .isLessThan(listenerOrder(ResourceVersions.class, "onReferenceDataChanged", ReferenceDataChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("should bump only tags and categories when reference data changes")
+        @SuppressWarnings("unchecked")
+        void shouldBumpListsOnReferenceDataChange() {
+            resourceVersions.onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(
+                    TAGS_KEY, ResourceVersions.KEY_PREFIX + "categories")), anyString());
+        }
+
+        @Test
+        @DisplayName("should not propagate Redis failures")
+        @SuppressWarnings("unchecked")
+        void shouldSwallowRedisFailures() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+            resourceVersions.bump(ResourceVersions.Resource.POSTS);
+        }
+    }
+
+    private static int postChangedOrder(Class<?> listener) throws NoSuchMethodException {
+        return listenerOrder(listener, "onPostChanged", PostChangedEvent.class);
+    }
+
+    private static int listenerOrder(Class<?> listener, String name, Class<?> eventType) throws NoSuchMethodException {
+        Method method = listener.getMethod(name, eventType);
+        Order order = AnnotatedElementUtils.findMergedAnnotation(method, Order.class);
+        return order != null ? order.value() : Ordered.LOWEST_PRECEDENCE;
+    }
+}
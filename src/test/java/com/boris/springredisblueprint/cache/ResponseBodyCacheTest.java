@@ -0,0 +1,239 @@
+package com.boris.springredisblueprint.cache;
+
+import com.boris.springredisblueprint.model.dto.PostDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseBodyCache")
+class ResponseBodyCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheRegistry cacheRegistry;
+
+    @Mock
+    private Cache postResponses;
+
+    @Mock
+    private Cache tagResponses;
+
+    @Mock
+    private Cache tagLists;
+
+    @Mock
+    private Cache categoryLists;
+
+    @Mock
+    private Cache categoryResponses;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheNames.POST_RESPONSE_CACHE)).thenReturn(postResponses);
+        when(cacheRegistry.get(CacheNames.POST_RESPONSE_CACHE)).thenReturn(CacheSpec.builder()
+                .name(CacheNames.POST_RESPONSE_CACHE)
+                .valueType(byte[].class)
+                .ttl(Duration.ofHours(1))
+                .serializer(RedisSerializer.byteArray())
+                .build());
+    }
+
+    private ResponseBodyCache newResponseBodyCache(int minFrequency) {
+        CacheAdmissionFilter admissionFilter =
+                new CacheAdmissionFilter(CacheNames.POST_CACHE, 1_000, minFrequency, new SimpleMeterRegistry());
+        return new ResponseBodyCache(stringRedisTemplate, cacheManager, cacheRegistry, jsonMapper, admissionFilter, true, 1024);
+    }
+
+    @Nested
+    @DisplayName("getPost")
+    class GetPost {
+
+        @Test
+        @DisplayName("should return a cached body without loading the post")
+        void shouldReturnCachedBody() {
+            byte[] json = "{\"title\":\"Cached\"}".getBytes(StandardCharsets.UTF_8);
+            when(postResponses.get(id, byte[].class)).thenReturn(CachedResponseBody.of(json, 2, 1024).toBytes());
+
+            CachedResponseBody body = newResponseBodyCache(1).getPost(id, () -> {
+                throw new AssertionError("loader must not be called");
+            });
+
+            assertThat(body.json()).isEqualTo(json);
+            assertThat(body.version()).isEqualTo(2);
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("should render a missing post and write it guarded by the version floor")
+        @SuppressWarnings("unchecked")
+        void shouldRenderAndWriteMissingPost() {
+            PostDto post = PostDto.builder().id(id).title("Hello").version(4L).build();
+
+            CachedResponseBody body = newResponseBodyCache(1).getPost(id, () -> post);
+
+            assertThat(new String(body.json(), StandardCharsets.UTF_8)).contains("\"title\":\"Hello\"");
+            assertThat(body.version()).isEqualTo(4);
+            verify(stringRedisTemplate).execute(eq(PostCache.PUT_SCRIPT), any(RedisSerializer.class), any(RedisSerializer.class),
+                    eq(List.of("POST_RESPONSE_CACHE::" + id, PostCache.VERSION_KEY_PREFIX + id)), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should not write the body of a post that is not read often enough")
+        @SuppressWarnings("unchecked")
+        void shouldSkipWriteForColdPost() {
+            PostDto post = PostDto.builder().id(id).title("Hello").version(4L).build();
+
+            newResponseBodyCache(2).getPost(id, () -> post);
+
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                    any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getList")
+    class GetList {
+
+        @Test
+        @DisplayName("should render a missing list and cache its body with the given version")
+        void shouldRenderAndCacheList() {
+            when(cacheManager.getCache(CacheNames.TAG_LIST_RESPONSE_CACHE)).thenReturn(tagResponses);
+
+            CachedResponseBody body = newResponseBodyCache(1)
+                    .getList(CacheNames.TAG_LIST_RESPONSE_CACHE, 42, () -> List.of("java", "redis"));
+
+            ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+            verify(tagResponses).put(eq(ResponseBodyCache.LIST_KEY), stored.capture());
+            assertThat(CachedResponseBody.fromBytes(stored.getValue()).json()).isEqualTo(body.json());
+            assertThat(CachedResponseBody.fromBytes(stored.getValue()).version()).isEqualTo(42);
+            assertThat(new String(body.json(), StandardCharsets.UTF_8)).isEqualTo("[\"java\",\"redis\"]");
+        }
+
+        @Test
+        @DisplayName("should serve a cached body at least as new as the version read")
+        void shouldServeCurrentBody() {
+            when(cacheManager.getCache(CacheNames.TAG_LIST_RESPONSE_CACHE)).thenReturn(tagResponses);
+            byte[] json = "[\"java\"]".getBytes(StandardCharsets.UTF_8);
+            when(tagResponses.get(ResponseBodyCache.LIST_KEY, byte[].class))
+                    .thenReturn(CachedResponseBody.of(json, 42, 1024).toBytes());
+
+            CachedResponseBody body = newResponseBodyCache(1).getList(CacheNames.TAG_LIST_RESPONSE_CACHE, 42, () -> {
+                throw new AssertionError("loader must not be called");
+            });
+
+            assertThat(body.json()).isEqualTo(json);
+            verify(tagResponses, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("should re-render a cached body older than the version read")
+        void shouldTreatOlderBodyAsMiss() {
+            when(cacheManager.getCache(CacheNames.TAG_LIST_RESPONSE_CACHE)).thenReturn(tagResponses);
+            // put by a reader that rendered the list before the change and wrote it after the eviction
+            byte[] staleJson = "[\"java\"]".getBytes(StandardCharsets.UTF_8);
+            when(tagResponses.get(ResponseBodyCache.LIST_KEY, byte[].class))
+                    .thenReturn(CachedResponseBody.of(staleJson, 41, 1024).toBytes());
+
+            CachedResponseBody body = newResponseBodyCache(1)
+                    .getList(CacheNames.TAG_LIST_RESPONSE_CACHE, 42, () -> List.of("java", "redis"));
+
+            assertThat(new String(body.json(), StandardCharsets.UTF_8)).isEqualTo("[\"java\",\"redis\"]");
+            assertThat(body.version()).isEqualTo(42);
+            ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+            verify(tagResponses).put(eq(ResponseBodyCache.LIST_KEY), stored.capture());
+            assertThat(CachedResponseBody.fromBytes(stored.getValue()).version()).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("should still answer when the cache is unavailable")
+        void shouldFallBackWhenCacheFails() {
+            when(cacheManager.getCache(CacheNames.TAG_LIST_RESPONSE_CACHE)).thenReturn(tagResponses);
+            when(tagResponses.get(ResponseBodyCache.LIST_KEY, byte[].class)).thenThrow(new IllegalStateException("down"));
+            doThrow(new IllegalStateException("down")).when(tagResponses).put(any(), any());
+
+            CachedResponseBody body = newResponseBodyCache(1)
+                    .getList(CacheNames.TAG_LIST_RESPONSE_CACHE, 42, () -> List.of("java"));
+
+            assertThat(new String(body.json(), StandardCharsets.UTF_8)).isEqualTo("[\"java\"]");
+        }
+    }
+
+    @Nested
+    @DisplayName("listeners")
+    class Listeners {
+
+        @BeforeEach
+        void setUpListCaches() {
+            when(cacheManager.getCache(CacheNames.TAG_LIST_CACHE)).thenReturn(tagLists);
+            when(cacheManager.getCache(CacheNames.TAG_LIST_RESPONSE_CACHE)).thenReturn(tagResponses);
+            when(cacheManager.getCache(CacheNames.CATEGORY_LIST_CACHE)).thenReturn(categoryLists);
+            when(cacheManager.getCache(CacheNames.CATEGORY_LIST_RESPONSE_CACHE)).thenReturn(categoryResponses);
+        }
+
+        @Test
+        @DisplayName("should evict the body of a post and clear the lists once its change commits")
+        void shouldEvictChangedPost() {
+            newResponseBodyCache(1).onPostChanged(new PostChangedEvent(id, 5L));
+
+            verify(postResponses).evict(id);
+            verify(tagLists).clear();
+            verify(tagResponses).clear();
+            verify(categoryLists).clear();
+            verify(categoryResponses).clear();
+        }
+
+        @Test
+        @DisplayName("should clear the lists once a reference data change commits")
+        void shouldClearListsOnReferenceDataChange() {
+            newResponseBodyCache(1).onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+            verify(tagLists).clear();
+            verify(tagResponses).clear();
+            verify(categoryLists).clear();
+            verify(categoryResponses).clear();
+            verify(postResponses, never()).evict(any());
+        }
+
+        @Test
+        @DisplayName("should keep clearing the other lists when one cache fails")
+        void shouldContinueWhenClearFails() {
+            doThrow(new IllegalStateException("down")).when(tagLists).clear();
+
+            newResponseBodyCache(1).onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+            verify(categoryResponses).clear();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.boris.springredisblueprint.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCacheManager")
+class TwoTierCacheManagerTest {
+
+    private static final String NEAR_CACHE = "near-cache";
+    private static final String REDIS_ONLY_CACHE = "redis-only-cache";
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private Cache nearRedisCache;
+
+    @Mock
+    private Cache redisOnlyCache;
+
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        when(nearRedisCache.getName()).thenReturn(NEAR_CACHE);
+        when(redisOnlyCache.getName()).thenReturn(REDIS_ONLY_CACHE);
+        when(redisCacheManager.getCacheNames()).thenReturn(List.of(NEAR_CACHE, REDIS_ONLY_CACHE));
+        when(redisCacheManager.getCache(NEAR_CACHE)).thenReturn(nearRedisCache);
+        when(redisCacheManager.getCache(REDIS_ONLY_CACHE)).thenReturn(redisOnlyCache);
+
+        cacheManager = new TwoTierCacheManager(
+                redisCacheManager, Set.of(NEAR_CACHE), Caffeine.newBuilder().maximumSize(100), invalidationBus);
+        cacheManager.initializeCaches();
+    }
+
+    @Test
+    @DisplayName("should put a near cache in front of the caches that ask for one")
+    void shouldWrapNearCaches() {
+        Cache cache = cacheManager.getCache(NEAR_CACHE);
+
+        assertThat(cache).isInstanceOf(TwoTierCache.class);
+        assertThat(cache.getName()).isEqualTo(NEAR_CACHE);
+        verify(invalidationBus).register((TwoTierCache) cache);
+    }
+
+    @Test
+    @DisplayName("should hand out every other cache unwrapped")
+    void shouldReturnRedisOnlyCachesUnwrapped() {
+        assertThat(cacheManager.getCache(REDIS_ONLY_CACHE)).isSameAs(redisOnlyCache);
+        verify(invalidationBus, times(1)).register(any());
+    }
+
+    @Test
+    @DisplayName("should return nothing for caches Redis does not know")
+    void shouldReturnNullForUnknownCache() {
+        assertThat(cacheManager.getCache("unknown")).isNull();
+    }
+}
@@ -0,0 +1,154 @@
+package com.boris.springredisblueprint.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCache")
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private Cache redisCache;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisCache = spy(new ConcurrentMapCache(CACHE_NAME));
+        cache = new TwoTierCache(redisCache, Caffeine.newBuilder().maximumSize(100).build(), invalidationBus);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class Get {
+
+        @Test
+        @DisplayName("should fall through to Redis on a local miss and keep the value locally")
+        void shouldFallThroughToRedis() {
+            redisCache.put("key", "value");
+
+            assertThat(cache.get("key", String.class)).isEqualTo("value");
+            assertThat(cache.getLocal("key")).isEqualTo("value");
+            verify(redisCache).get("key");
+        }
+
+        @Test
+        @DisplayName("should serve a local hit without reading Redis")
+        void shouldServeLocalHit() {
+            cache.putLocal("key", "value");
+
+            assertThat(cache.get("key", String.class)).isEqualTo("value");
+            verify(redisCache, never()).get("key");
+        }
+
+        @Test
+        @DisplayName("should return nothing when neither tier has the key")
+        void shouldMissInBothTiers() {
+            assertThat(cache.get("missing")).isNull();
+            assertThat(cache.getLocal("missing")).isNull();
+        }
+
+        @Test
+        @DisplayName("should load a missing value once and keep it in both tiers")
+        void shouldLoadMissingValue() {
+            assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+            assertThat(cache.get("key", () -> "reloaded")).isEqualTo("loaded");
+
+            assertThat(redisCache.get("key", String.class)).isEqualTo("loaded");
+            assertThat(cache.getLocal("key")).isEqualTo("loaded");
+        }
+    }
+
+    @Nested
+    @DisplayName("writes")
+    class Writes {
+
+        @Test
+        @DisplayName("should write both tiers on put and tell other nodes to drop their copy")
+        void shouldPublishPut() {
+            cache.put("key", "value");
+
+            assertThat(redisCache.get("key", String.class)).isEqualTo("value");
+            assertThat(cache.getLocal("key")).isEqualTo("value");
+            verify(invalidationBus).publishEvict(CACHE_NAME, "key");
+        }
+
+        @Test
+        @DisplayName("should evict both tiers and publish the eviction")
+        void shouldPublishEvict() {
+            cache.put("key", "value");
+
+            cache.evict("key");
+
+            assertThat(redisCache.get("key")).isNull();
+            assertThat(cache.getLocal("key")).isNull();
+            verify(invalidationBus, times(2)).publishEvict(CACHE_NAME, "key");
+        }
+
+        @Test
+        @DisplayName("should clear both tiers and publish the clear")
+        void shouldPublishClear() {
+            cache.put("first", "1");
+            cache.put("second", "2");
+
+            cache.clear();
+
+            assertThat(redisCache.get("first")).isNull();
+            assertThat(cache.getLocal("second")).isNull();
+            verify(invalidationBus).publishClear(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("should drop only the local copy when invalidated locally")
+        void shouldKeepRedisOnLocalInvalidation() {
+            cache.put("key", "value");
+
+            cache.invalidateLocal("key");
+
+            assertThat(cache.getLocal("key")).isNull();
+            assertThat(redisCache.get("key", String.class)).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("remote invalidation")
+    class RemoteInvalidation {
+
+        @Test
+        @DisplayName("should drop the local copy but leave Redis alone")
+        void shouldEvictLocalCopyOnly() {
+            cache.put("key", "value");
+
+            cache.evictLocal("key");
+
+            assertThat(cache.getLocal("key")).isNull();
+            assertThat(redisCache.get("key", String.class)).isEqualTo("value");
+        }
+
+        @Test
+        @DisplayName("should drop every local copy but leave Redis alone")
+        void shouldClearLocalTierOnly() {
+            cache.put("key", "value");
+
+            cache.clearLocal();
+
+            assertThat(cache.getLocal("key")).isNull();
+            assertThat(redisCache.get("key", String.class)).isEqualTo("value");
+            verify(invalidationBus, never()).publishClear(any());
+        }
+    }
+}
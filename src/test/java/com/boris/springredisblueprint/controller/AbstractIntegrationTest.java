@@ -1,5 +1,6 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.ResourceVersions;
 import com.boris.springredisblueprint.service.UserService;
 import com.boris.springredisblueprint.service.command.CategoryCommandService;
 import com.boris.springredisblueprint.service.command.PostCommandService;
@@ -47,6 +48,9 @@ public abstract class AbstractIntegrationTest {
     @MockitoBean
     protected UserService userService;
 
+    @MockitoBean
+    protected ResourceVersions resourceVersions;
+
     @BeforeEach
     void resetMocks() {
         reset(
@@ -56,7 +60,8 @@ public abstract class AbstractIntegrationTest {
                 postCommandService,
                 categoryCommandService,
                 tagCommandService,
-                userService
+                userService,
+                resourceVersions
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.ResourceVersions;
 import com.boris.springredisblueprint.model.dto.CategoryDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,9 +9,11 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -68,6 +71,18 @@ class CategoryControllerIntegrationTest extends AbstractIntegrationTest {
 
             verify(categoryQueryService).getAllCategories();
         }
+
+        @Test
+        @DisplayName("should return 304 without loading the categories when the ETag is current")
+        void shouldReturn304WhenNotModified() throws Exception {
+            when(resourceVersions.current(ResourceVersions.Resource.CATEGORIES)).thenReturn(7L);
+
+            mockMvc.perform(get(BASE_URL).header("If-None-Match", "\"1\", W/\"7\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "W/\"7\""));
+
+            verify(categoryQueryService, never()).getAllCategories();
+        }
     }
 
     private CategoryDto buildCategoryDto(String name) {
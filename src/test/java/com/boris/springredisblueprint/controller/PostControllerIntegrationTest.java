@@ -1,6 +1,9 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.ResourceVersions;
+import com.boris.springredisblueprint.model.dto.CursorSliceDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,11 +12,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,9 +49,9 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
         @Test
         @DisplayName("should return 200 with paginated posts")
         void shouldReturn200WithPosts() throws Exception {
-            PostDto post1 = buildPostDto("First Post");
-            PostDto post2 = buildPostDto("Second Post");
-            List<PostDto> posts = List.of(post1, post2);
+            PostSummaryDto post1 = buildSummaryDto("First Post");
+            PostSummaryDto post2 = buildSummaryDto("Second Post");
+            List<PostSummaryDto> posts = List.of(post1, post2);
 
             when(postQueryService.getAllPosts(isNull(), isNull(), any()))
                     .thenReturn(new PageImpl<>(posts, PageRequest.of(0, 20), posts.size()));
@@ -57,6 +62,8 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.content.length()").value(2))
                     .andExpect(jsonPath("$.content[0].title").value("First Post"))
                     .andExpect(jsonPath("$.content[1].title").value("Second Post"))
+                    .andExpect(jsonPath("$.content[0].excerpt").value("Excerpt of First Post"))
+                    .andExpect(jsonPath("$.content[0].content").doesNotExist())
                     .andExpect(jsonPath("$.totalElements").value(2));
 
             verify(postQueryService).getAllPosts(isNull(), isNull(), any());
@@ -66,7 +73,7 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
         @DisplayName("should filter posts by categoryId when provided")
         void shouldFilterByCategoryId() throws Exception {
             UUID categoryId = UUID.randomUUID();
-            PostDto post = buildPostDto("Categorized Post");
+            PostSummaryDto post = buildSummaryDto("Categorized Post");
 
             when(postQueryService.getAllPosts(eq(categoryId), isNull(), any()))
                     .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 20), 1));
@@ -83,7 +90,7 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
         @DisplayName("should filter posts by tagId when provided")
         void shouldFilterByTagId() throws Exception {
             UUID tagId = UUID.randomUUID();
-            PostDto post = buildPostDto("Tagged Post");
+            PostSummaryDto post = buildSummaryDto("Tagged Post");
 
             when(postQueryService.getAllPosts(isNull(), eq(tagId), any()))
                     .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 20), 1));
@@ -101,7 +108,7 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
         void shouldFilterByCategoryIdAndTagId() throws Exception {
             UUID categoryId = UUID.randomUUID();
             UUID tagId = UUID.randomUUID();
-            PostDto post = buildPostDto("Filtered Post");
+            PostSummaryDto post = buildSummaryDto("Filtered Post");
 
             when(postQueryService.getAllPosts(eq(categoryId), eq(tagId), any()))
                     .thenReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 20), 1));
@@ -152,6 +159,160 @@ class PostControllerIntegrationTest extends AbstractIntegrationTest {
 
             verifyNoInteractions(postQueryService);
         }
+
+        @Test
+        @DisplayName("should return 304 without querying posts when no post changed since the ETag")
+        void shouldReturn304WhenNotModified() throws Exception {
+            when(resourceVersions.current(ResourceVersions.Resource.POSTS)).thenReturn(11L);
+
+            mockMvc.perform(get(BASE_URL).header("If-None-Match", "W/\"11\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "W/\"11\""));
+
+            verifyNoInteractions(postQueryService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/posts/feed")
+    class GetFeed {
+
+        @Test
+        @DisplayName("should return 200 with the feed slice and its cursor")
+        void shouldReturn200WithFeedSlice() throws Exception {
+            CursorSliceDto<PostDto> feed = CursorSliceDto.<PostDto>builder()
+                    .content(List.of(buildPostDto("Newest Post")))
+                    .size(1)
+                    .hasNext(true)
+                    .nextCursor("next-cursor")
+                    .build();
+
+            when(postQueryService.getFeed(isNull(), eq("cursor"), eq(1))).thenReturn(feed);
+
+            mockMvc.perform(get(BASE_URL + "/feed").param("cursor", "cursor").param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].title").value("Newest Post"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should use a page size of 20 by default")
+        void shouldUseDefaultSize() throws Exception {
+            when(postQueryService.getFeed(isNull(), isNull(), eq(20)))
+                    .thenReturn(CursorSliceDto.<PostDto>builder().content(List.of()).build());
+
+            mockMvc.perform(get(BASE_URL + "/feed"))
+                    .andExpect(status().isOk());
+
+            verify(postQueryService).getFeed(isNull(), isNull(), eq(20));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an invalid cursor")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            when(postQueryService.getFeed(isNull(), eq("broken"), anyInt()))
+                    .thenThrow(new IllegalArgumentException("Invalid feed cursor."));
+
+            mockMvc.perform(get(BASE_URL + "/feed").param("cursor", "broken"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/posts/{id}")
+    class GetPost {
+
+        @Test
+        @DisplayName("should return 200 tagged with the version of the post")
+        void shouldReturn200WithETag() throws Exception {
+            UUID id = UUID.randomUUID();
+            PostDto post = buildPostDto("First Post");
+            post.setVersion(3L);
+            when(postQueryService.getPost(id)).thenReturn(post);
+
+            mockMvc.perform(get(BASE_URL + "/" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"3\""))
+                    .andExpect(jsonPath("$.title").value("First Post"));
+
+            verify(postQueryService, never()).getPostVersion(any());
+        }
+
+        @Test
+        @DisplayName("should return 304 without loading the post when the ETag is current")
+        void shouldReturn304WhenNotModified() throws Exception {
+            UUID id = UUID.randomUUID();
+            when(postQueryService.getPostVersion(id)).thenReturn(Optional.of(3L));
+
+            mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", "W/\"3\""))
+                    .andExpect(status().isNotModified());
+
+            verify(postQueryService, never()).getPost(any());
+        }
+
+        @Test
+        @DisplayName("should return 200 when the post changed since the ETag")
+        void shouldReturn200WhenModified() throws Exception {
+            UUID id = UUID.randomUUID();
+            PostDto post = buildPostDto("Edited Post");
+            post.setVersion(4L);
+            when(postQueryService.getPostVersion(id)).thenReturn(Optional.of(4L));
+            when(postQueryService.getPost(id)).thenReturn(post);
+
+            mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", "W/\"3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"4\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/posts/batch")
+    class GetPosts {
+
+        @Test
+        @DisplayName("should return 200 with the posts in request order")
+        void shouldReturn200WithPostsInOrder() throws Exception {
+            UUID firstId = UUID.randomUUID();
+            UUID secondId = UUID.randomUUID();
+
+            when(postQueryService.getPosts(List.of(firstId, secondId)))
+                    .thenReturn(List.of(buildPostDto("First Post"), buildPostDto("Second Post")));
+
+            mockMvc.perform(get(BASE_URL + "/batch").param("ids", firstId + "," + secondId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].title").value("First Post"))
+                    .andExpect(jsonPath("$[1].title").value("Second Post"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when an id is not a valid UUID")
+        void shouldReturn400ForInvalidId() throws Exception {
+            mockMvc.perform(get(BASE_URL + "/batch").param("ids", "not-a-uuid"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(postQueryService);
+        }
+
+        @Test
+        @DisplayName("should return 400 when too many ids are requested")
+        void shouldReturn400ForTooManyIds() throws Exception {
+            when(postQueryService.getPosts(anyList()))
+                    .thenThrow(new IllegalArgumentException("At most 100 posts can be fetched at once."));
+
+            mockMvc.perform(get(BASE_URL + "/batch").param("ids", UUID.randomUUID().toString()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private PostSummaryDto buildSummaryDto(String title) {
+        return PostSummaryDto.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .excerpt("Excerpt of " + title)
+                .build();
     }
 
     private PostDto buildPostDto(String title) {
@@ -1,5 +1,6 @@
 package com.boris.springredisblueprint.controller;
 
+import com.boris.springredisblueprint.cache.ResourceVersions;
 import com.boris.springredisblueprint.model.dto.TagDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,9 +9,11 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -70,6 +73,40 @@ class TagControllerIntegrationTest extends AbstractIntegrationTest {
 
             verify(tagQueryService).getTags();
         }
+
+        @Test
+        @DisplayName("should tag the list with the current tag version")
+        void shouldReturnETag() throws Exception {
+            when(resourceVersions.current(ResourceVersions.Resource.TAGS)).thenReturn(42L);
+            when(tagQueryService.getTags()).thenReturn(List.of(buildTagDto("java")));
+
+            mockMvc.perform(get(BASE_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"42\""));
+        }
+
+        @Test
+        @DisplayName("should return 304 without loading the tags when the ETag is current")
+        void shouldReturn304WhenNotModified() throws Exception {
+            when(resourceVersions.current(ResourceVersions.Resource.TAGS)).thenReturn(42L);
+
+            mockMvc.perform(get(BASE_URL).header("If-None-Match", "W/\"42\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "W/\"42\""));
+
+            verify(tagQueryService, never()).getTags();
+        }
+
+        @Test
+        @DisplayName("should return 200 when the ETag is outdated")
+        void shouldReturn200WhenModified() throws Exception {
+            when(resourceVersions.current(ResourceVersions.Resource.TAGS)).thenReturn(43L);
+            when(tagQueryService.getTags()).thenReturn(List.of(buildTagDto("java")));
+
+            mockMvc.perform(get(BASE_URL).header("If-None-Match", "W/\"42\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("java"));
+        }
     }
 
     // TODO: add @Nested classes for POST /api/v1/tags and DELETE /api/v1/tags/{id}
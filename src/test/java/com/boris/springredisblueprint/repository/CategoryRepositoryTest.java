@@ -0,0 +1,102 @@
+package com.boris.springredisblueprint.repository;
+
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.CategoryPostCount;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("CategoryRepository")
+class CategoryRepositoryTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .name("Alice")
+                .email("alice@example.com")
+                .password("password")
+                .build());
+    }
+
+    @Nested
+    @DisplayName("findAllWithPostCount")
+    class FindAllWithPostCount {
+
+        @Test
+        @DisplayName("should read the maintained counters ordered by name")
+        void findAllWithPostCount_readsCounters() {
+            Category frontend = entityManager.persist(Category.builder().name("Frontend").build());
+            Category backend = entityManager.persist(Category.builder().name("Backend").build());
+            entityManager.flush();
+
+            categoryRepository.incrementPublishedPostCount(backend.getId(), 1);
+
+            List<CategoryPostCount> result = categoryRepository.findAllWithPostCount();
+
+            assertThat(result)
+                    .extracting(CategoryPostCount::getId, CategoryPostCount::getName, CategoryPostCount::getPostCount)
+                    .containsExactly(
+                            tuple(backend.getId(), "Backend", 1),
+                            tuple(frontend.getId(), "Frontend", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcilePublishedPostCounts")
+    class ReconcilePublishedPostCounts {
+
+        @Test
+        @DisplayName("should recount published posts per category")
+        void reconcilePublishedPostCounts_repairsDrift() {
+            Category backend = entityManager.persist(Category.builder().name("Backend").build());
+            Category frontend = entityManager.persist(Category.builder().name("Frontend").build());
+
+            persistPost("Published", PostStatusEnum.PUBLISHED, backend);
+            persistPost("Draft", PostStatusEnum.DRAFT, backend);
+            persistPost("Frontend draft", PostStatusEnum.DRAFT, frontend);
+
+            int repaired = categoryRepository.reconcilePublishedPostCounts();
+            entityManager.clear();
+
+            assertThat(repaired).isEqualTo(1);
+            assertThat(categoryRepository.findAllWithPostCount())
+                    .extracting(CategoryPostCount::getId, CategoryPostCount::getPostCount)
+                    .containsExactly(
+                            tuple(backend.getId(), 1),
+                            tuple(frontend.getId(), 0));
+        }
+    }
+
+    private void persistPost(String title, PostStatusEnum status, Category category) {
+        entityManager.persist(Post.builder()
+                .title(title)
+                .content("Content for " + title)
+                .readingTime(1)
+                .status(status)
+                .author(author)
+                .category(category)
+                .tags(new HashSet<>())
+                .build());
+        entityManager.flush();
+    }
+}
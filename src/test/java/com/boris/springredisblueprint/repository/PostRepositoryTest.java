@@ -4,20 +4,31 @@ import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.PostSummaryView;
+import com.boris.springredisblueprint.model.projection.PostTagView;
 import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("PostRepository")
 class PostRepositoryTest extends AbstractRepositoryTest {
@@ -48,42 +59,59 @@ class PostRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findAllByStatus")
-    class FindAllByStatus {
+    @DisplayName("findSummariesByStatus")
+    class FindSummariesByStatus {
 
         @Test
         @DisplayName("should return only PUBLISHED posts")
-        void findAllByStatus_returnsOnlyPublished() {
+        void findSummariesByStatus_returnsOnlyPublished() {
             persist(buildPost("Published Post", PostStatusEnum.PUBLISHED, categoryA));
             persist(buildPost("Draft Post", PostStatusEnum.DRAFT, categoryA));
 
-            Page<Post> result = postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, firstPage);
+            Page<PostSummaryView> result = postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, firstPage);
 
             assertThat(result.getTotalElements()).isEqualTo(1);
             assertThat(result.getContent().getFirst().getTitle()).isEqualTo("Published Post");
         }
 
+        @Test
+        @DisplayName("should read the excerpt and the author and category names")
+        void findSummariesByStatus_readsSummaryColumns() {
+            persist(buildPost("Published Post", PostStatusEnum.PUBLISHED, categoryA));
+            entityManager.clear();
+
+            PostSummaryView summary = postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, firstPage)
+                    .getContent().getFirst();
+
+            assertThat(summary.getExcerpt()).isEqualTo("Excerpt for Published Post");
+            assertThat(summary.getAuthorId()).isEqualTo(author.getId());
+            assertThat(summary.getAuthorName()).isEqualTo("Alice");
+            assertThat(summary.getCategoryId()).isEqualTo(categoryA.getId());
+            assertThat(summary.getCategoryName()).isEqualTo("Backend");
+            assertThat(summary.getStatus()).isEqualTo(PostStatusEnum.PUBLISHED);
+        }
+
         @Test
         @DisplayName("should return empty page when no posts exist")
-        void findAllByStatus_emptyWhenNoPosts() {
-            Page<Post> result = postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, firstPage);
+        void findSummariesByStatus_emptyWhenNoPosts() {
+            Page<PostSummaryView> result = postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, firstPage);
 
             assertThat(result).isEmpty();
         }
     }
 
     @Nested
-    @DisplayName("findAllByStatusAndCategory")
-    class FindAllByStatusAndCategory {
+    @DisplayName("findSummariesByStatusAndCategory")
+    class FindSummariesByStatusAndCategory {
 
         @Test
         @DisplayName("should filter by status and category")
-        void findAllByStatusAndCategory_filtersCorrectly() {
+        void findSummariesByStatusAndCategory_filtersCorrectly() {
             persist(buildPost("Backend Published", PostStatusEnum.PUBLISHED, categoryA));
             persist(buildPost("Frontend Published", PostStatusEnum.PUBLISHED, categoryB));
             persist(buildPost("Backend Draft", PostStatusEnum.DRAFT, categoryA));
 
-            Page<Post> result = postRepository.findAllByStatusAndCategory(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndCategory(
                     PostStatusEnum.PUBLISHED, categoryA, firstPage);
 
             assertThat(result.getTotalElements()).isEqualTo(1);
@@ -92,10 +120,10 @@ class PostRepositoryTest extends AbstractRepositoryTest {
 
         @Test
         @DisplayName("should return empty when category has no published posts")
-        void findAllByStatusAndCategory_emptyForWrongCategory() {
+        void findSummariesByStatusAndCategory_emptyForWrongCategory() {
             persist(buildPost("Backend Published", PostStatusEnum.PUBLISHED, categoryA));
 
-            Page<Post> result = postRepository.findAllByStatusAndCategory(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndCategory(
                     PostStatusEnum.PUBLISHED, categoryB, firstPage);
 
             assertThat(result).isEmpty();
@@ -103,12 +131,12 @@ class PostRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findAllByStatusAndTagsContaining")
-    class FindAllByStatusAndTagsContaining {
+    @DisplayName("findSummariesByStatusAndTag")
+    class FindSummariesByStatusAndTag {
 
         @Test
         @DisplayName("should return posts that contain the given tag")
-        void findAllByStatusAndTagsContaining_filtersCorrectly() {
+        void findSummariesByStatusAndTag_filtersCorrectly() {
             Post withJava = buildPost("Java Post", PostStatusEnum.PUBLISHED, categoryA);
             Post withSpring = buildPost("Spring Post", PostStatusEnum.PUBLISHED, categoryA);
             withJava.getTags().add(tagJava);
@@ -116,7 +144,7 @@ class PostRepositoryTest extends AbstractRepositoryTest {
             persist(withJava);
             persist(withSpring);
 
-            Page<Post> result = postRepository.findAllByStatusAndTagsContaining(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndTag(
                     PostStatusEnum.PUBLISHED, tagJava, firstPage);
 
             assertThat(result.getTotalElements()).isEqualTo(1);
@@ -125,12 +153,12 @@ class PostRepositoryTest extends AbstractRepositoryTest {
 
         @Test
         @DisplayName("should exclude drafts even when tag matches")
-        void findAllByStatusAndTagsContaining_excludesDrafts() {
+        void findSummariesByStatusAndTag_excludesDrafts() {
             Post draft = buildPost("Java Draft", PostStatusEnum.DRAFT, categoryA);
             draft.getTags().add(tagJava);
             persist(draft);
 
-            Page<Post> result = postRepository.findAllByStatusAndTagsContaining(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndTag(
                     PostStatusEnum.PUBLISHED, tagJava, firstPage);
 
             assertThat(result).isEmpty();
@@ -138,12 +166,12 @@ class PostRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findAllByStatusAndCategoryAndTagsContaining")
-    class FindAllByStatusAndCategoryAndTagsContaining {
+    @DisplayName("findSummariesByStatusAndCategoryAndTag")
+    class FindSummariesByStatusAndCategoryAndTag {
 
         @Test
         @DisplayName("should narrow results by both category and tag")
-        void findAllByStatusAndCategoryAndTagsContaining_filtersCorrectly() {
+        void findSummariesByStatusAndCategoryAndTag_filtersCorrectly() {
             Post backendJava = buildPost("Backend+Java", PostStatusEnum.PUBLISHED, categoryA);
             Post frontendJava = buildPost("Frontend+Java", PostStatusEnum.PUBLISHED, categoryB);
             Post backendSpring = buildPost("Backend+Spring", PostStatusEnum.PUBLISHED, categoryA);
@@ -154,7 +182,7 @@ class PostRepositoryTest extends AbstractRepositoryTest {
             persist(frontendJava);
             persist(backendSpring);
 
-            Page<Post> result = postRepository.findAllByStatusAndCategoryAndTagsContaining(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndCategoryAndTag(
                     PostStatusEnum.PUBLISHED, categoryA, tagJava, firstPage);
 
             assertThat(result.getTotalElements()).isEqualTo(1);
@@ -163,12 +191,12 @@ class PostRepositoryTest extends AbstractRepositoryTest {
 
         @Test
         @DisplayName("should return empty when no post matches category and tag combination")
-        void findAllByStatusAndCategoryAndTagsContaining_emptyWhenNoMatch() {
+        void findSummariesByStatusAndCategoryAndTag_emptyWhenNoMatch() {
             Post post = buildPost("Backend+Spring", PostStatusEnum.PUBLISHED, categoryA);
             post.getTags().add(tagSpring);
             persist(post);
 
-            Page<Post> result = postRepository.findAllByStatusAndCategoryAndTagsContaining(
+            Page<PostSummaryView> result = postRepository.findSummariesByStatusAndCategoryAndTag(
                     PostStatusEnum.PUBLISHED, categoryA, tagJava, firstPage);
 
             assertThat(result).isEmpty();
@@ -176,12 +204,12 @@ class PostRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findAllByAuthorAndStatus")
-    class FindAllByAuthorAndStatus {
+    @DisplayName("findSummariesByAuthorAndStatus")
+    class FindSummariesByAuthorAndStatus {
 
         @Test
         @DisplayName("should return only the given author's posts with the given status")
-        void findAllByAuthorAndStatus_filtersCorrectly() {
+        void findSummariesByAuthorAndStatus_filtersCorrectly() {
             User otherAuthor = entityManager.persist(buildUser("Bob", "bob@example.com"));
             entityManager.flush();
 
@@ -189,7 +217,7 @@ class PostRepositoryTest extends AbstractRepositoryTest {
             persist(buildPost("Alice Published", PostStatusEnum.PUBLISHED, categoryA, author));
             persist(buildPost("Bob Draft", PostStatusEnum.DRAFT, categoryA, otherAuthor));
 
-            Page<Post> result = postRepository.findAllByAuthorAndStatus(
+            Page<PostSummaryView> result = postRepository.findSummariesByAuthorAndStatus(
                     author, PostStatusEnum.DRAFT, firstPage);
 
             assertThat(result.getTotalElements()).isEqualTo(1);
@@ -198,22 +226,169 @@ class PostRepositoryTest extends AbstractRepositoryTest {
 
         @Test
         @DisplayName("should return empty when author has no posts with the given status")
-        void findAllByAuthorAndStatus_emptyWhenNoMatch() {
+        void findSummariesByAuthorAndStatus_emptyWhenNoMatch() {
             persist(buildPost("Alice Published", PostStatusEnum.PUBLISHED, categoryA, author));
 
-            Page<Post> result = postRepository.findAllByAuthorAndStatus(
+            Page<PostSummaryView> result = postRepository.findSummariesByAuthorAndStatus(
                     author, PostStatusEnum.DRAFT, firstPage);
 
             assertThat(result).isEmpty();
         }
     }
 
+    @Nested
+    @DisplayName("findSummariesByIdIn")
+    class FindSummariesByIdIn {
+
+        @Test
+        @DisplayName("should return summaries of the existing posts among the given ids")
+        void findSummariesByIdIn_skipsUnknownIds() {
+            Post post = buildPost("Known", PostStatusEnum.PUBLISHED, categoryA);
+            persist(post);
+
+            List<PostSummaryView> result = postRepository.findSummariesByIdIn(List.of(post.getId(), UUID.randomUUID()));
+
+            assertThat(result).extracting(PostSummaryView::getTitle).containsExactly("Known");
+        }
+    }
+
+    @Nested
+    @DisplayName("findTagsByPostIdIn")
+    class FindTagsByPostIdIn {
+
+        @Test
+        @DisplayName("should return one row per tag of the given posts")
+        void findTagsByPostIdIn_returnsTagsPerPost() {
+            Post both = buildPost("Both", PostStatusEnum.PUBLISHED, categoryA);
+            Post untagged = buildPost("Untagged", PostStatusEnum.PUBLISHED, categoryA);
+            Post other = buildPost("Other", PostStatusEnum.PUBLISHED, categoryA);
+            both.getTags().add(tagJava);
+            both.getTags().add(tagSpring);
+            other.getTags().add(tagJava);
+            persist(both);
+            persist(untagged);
+            persist(other);
+
+            List<PostTagView> result = postRepository.findTagsByPostIdIn(List.of(both.getId(), untagged.getId()));
+
+            assertThat(result).extracting(PostTagView::getPostId).containsOnly(both.getId());
+            assertThat(result).extracting(PostTagView::getName).containsExactlyInAnyOrder("java", "spring");
+        }
+    }
+
+    @Nested
+    @DisplayName("findFeed")
+    class FindFeed {
+
+        @Test
+        @DisplayName("should walk every published post exactly once, newest first")
+        void findFeed_walksAllPublishedPostsOnce() {
+            persist(buildPost("First", PostStatusEnum.PUBLISHED, categoryA));
+            persist(buildPost("Second", PostStatusEnum.PUBLISHED, categoryA));
+            persist(buildPost("Third", PostStatusEnum.PUBLISHED, categoryB));
+            persist(buildPost("Draft", PostStatusEnum.DRAFT, categoryA));
+            entityManager.clear();
+
+            List<Post> firstPage = postRepository.findFeed(PostStatusEnum.PUBLISHED, Limit.of(2));
+            Post last = firstPage.getLast();
+            List<Post> secondPage = postRepository.findFeedAfter(
+                    PostStatusEnum.PUBLISHED, last.getCreatedAt(), last.getId(), Limit.of(2));
+
+            List<Post> feed = new ArrayList<>(firstPage);
+            feed.addAll(secondPage);
+
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(1);
+            assertThat(feed).extracting(Post::getTitle).containsExactlyInAnyOrder("First", "Second", "Third");
+            assertThat(feed).isSortedAccordingTo(
+                    Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed());
+        }
+
+        @Test
+        @DisplayName("should break ties on the creation time by id without skipping or repeating posts")
+        void findFeedAfter_breaksTiesById() {
+            persist(buildPost("First", PostStatusEnum.PUBLISHED, categoryA));
+            persist(buildPost("Second", PostStatusEnum.PUBLISHED, categoryA));
+            persist(buildPost("Third", PostStatusEnum.PUBLISHED, categoryA));
+            entityManager.getEntityManager()
+                    .createQuery("UPDATE Post p SET p.createdAt = :createdAt")
+                    .setParameter("createdAt", LocalDateTime.of(2025, 1, 1, 12, 0))
+                    .executeUpdate();
+            entityManager.clear();
+
+            List<Post> feed = new ArrayList<>(postRepository.findFeed(PostStatusEnum.PUBLISHED, Limit.of(1)));
+            while (feed.size() < 4) {
+                Post last = feed.getLast();
+                List<Post> next = postRepository.findFeedAfter(
+                        PostStatusEnum.PUBLISHED, last.getCreatedAt(), last.getId(), Limit.of(1));
+                if (next.isEmpty()) {
+                    break;
+                }
+                feed.addAll(next);
+            }
+
+            assertThat(feed).extracting(Post::getTitle).containsExactlyInAnyOrder("First", "Second", "Third");
+        }
+
+        @Test
+        @DisplayName("should restrict the feed to a category")
+        void findFeedByCategory_filtersCategory() {
+            persist(buildPost("Backend", PostStatusEnum.PUBLISHED, categoryA));
+            persist(buildPost("Frontend", PostStatusEnum.PUBLISHED, categoryB));
+
+            List<Post> result = postRepository.findFeedByCategory(
+                    PostStatusEnum.PUBLISHED, categoryB.getId(), Limit.of(10));
+
+            assertThat(result).extracting(Post::getTitle).containsExactly("Frontend");
+        }
+    }
+
+    @Nested
+    @DisplayName("findIdsAfter")
+    class FindIdsAfter {
+
+        @Test
+        @DisplayName("should page through every post id, including drafts, exactly once")
+        void findIdsAfter_walksAllIdsOnce() {
+            Post first = buildPost("First", PostStatusEnum.PUBLISHED, categoryA);
+            Post second = buildPost("Second", PostStatusEnum.DRAFT, categoryA);
+            Post third = buildPost("Third", PostStatusEnum.PUBLISHED, categoryB);
+            persist(first);
+            persist(second);
+            persist(third);
+
+            List<UUID> firstPage = postRepository.findIdsAfter(new UUID(0, 0), Limit.of(2));
+            List<UUID> secondPage = postRepository.findIdsAfter(firstPage.getLast(), Limit.of(2));
+
+            List<UUID> ids = new ArrayList<>(firstPage);
+            ids.addAll(secondPage);
+
+            assertThat(firstPage).hasSize(2);
+            assertThat(ids).containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("findVersionById")
+    class FindVersionById {
+
+        @Test
+        @DisplayName("should return the version of an existing post and nothing for an unknown id")
+        void findVersionById_readsVersionOnly() {
+            Post post = buildPost("Versioned", PostStatusEnum.PUBLISHED, categoryA);
+            persist(post);
+
+            assertThat(postRepository.findVersionById(post.getId())).contains(post.getVersion());
+            assertThat(postRepository.findVersionById(UUID.randomUUID())).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("EntityGraph")
     class EntityGraph {
 
         @Test
-        @DisplayName("should eagerly load author, category and tags associations")
+        @DisplayName("should eagerly load author, category and tags of a batch of posts")
         void entityGraph_associationsAreInitialised() {
             Post post = buildPost("Graph Test", PostStatusEnum.PUBLISHED, categoryA);
             post.getTags().add(tagJava);
@@ -223,13 +398,67 @@ class PostRepositoryTest extends AbstractRepositoryTest {
             // first-level cache — only the EntityGraph can satisfy them.
             entityManager.clear();
 
-            Page<Post> result = postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, firstPage);
+            List<Post> result = postRepository.findAllByIdIn(List.of(post.getId()));
+
+            Post loaded = result.getFirst();
+            assertThat(Hibernate.isInitialized(loaded.getAuthor())).isTrue();
+            assertThat(Hibernate.isInitialized(loaded.getCategory())).isTrue();
+            assertThat(Hibernate.isInitialized(loaded.getTags())).isTrue();
+            assertThat(loaded.getTags()).extracting(Tag::getName).containsExactly("java");
+        }
+
+        @Test
+        @DisplayName("should load a single post with every association the mapper reads")
+        void entityGraph_singlePostIsFullyLoaded() {
+            Post post = buildPost("Detail Test", PostStatusEnum.PUBLISHED, categoryA);
+            post.getTags().add(tagJava);
+            persist(post);
+            entityManager.clear();
+
+            Post loaded = postRepository.findWithDetailsById(post.getId()).orElseThrow();
+
+            assertThat(Hibernate.isInitialized(loaded.getAuthor())).isTrue();
+            assertThat(Hibernate.isInitialized(loaded.getCategory())).isTrue();
+            assertThat(Hibernate.isInitialized(loaded.getTags())).isTrue();
+            assertThat(loaded.getTags()).extracting(Tag::getName).containsExactly("java");
+        }
+    }
 
-            Post loaded = result.getContent().getFirst();
-            // These would throw LazyInitializationException without the EntityGraph
-            assertThat(loaded.getAuthor()).isNotNull();
-            assertThat(loaded.getCategory()).isNotNull();
-            assertThat(loaded.getTags()).isNotEmpty();
+    @Nested
+    @DisplayName("Pagination")
+    class Pagination {
+
+        @Test
+        @DisplayName("should page posts with tags in the database rather than in memory")
+        void pagination_appliesLimitInDatabase() {
+            for (int i = 0; i < 5; i++) {
+                Post post = buildPost("Post " + i, PostStatusEnum.PUBLISHED, categoryA);
+                post.getTags().add(tagJava);
+                post.getTags().add(tagSpring);
+                persist(post);
+            }
+            entityManager.clear();
+
+            Page<PostSummaryView> secondPage = postRepository.findSummariesByStatus(
+                    PostStatusEnum.PUBLISHED, PageRequest.of(1, 2));
+            List<UUID> pageIds = secondPage.getContent().stream().map(PostSummaryView::getId).toList();
+
+            assertThat(secondPage.getTotalElements()).isEqualTo(5);
+            assertThat(pageIds).hasSize(2);
+            assertThat(postRepository.findTagsByPostIdIn(pageIds)).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("should reject a collection fetch combined with pagination")
+        void pagination_collectionFetchIsRejected() {
+            // Guards against reintroducing a collection in a paginated EntityGraph,
+            // which Hibernate would otherwise silently page in memory (HHH90003004).
+            assertThatThrownBy(() -> entityManager.getEntityManager()
+                    .createQuery("SELECT p FROM Post p LEFT JOIN FETCH p.tags", Post.class)
+                    .setMaxResults(10)
+                    .getResultList())
+                    .isInstanceOf(PersistenceException.class)
+                    .hasMessageContaining("in-memory pagination");
         }
     }
 
@@ -246,6 +475,7 @@ class PostRepositoryTest extends AbstractRepositoryTest {
         return Post.builder()
                 .title(title)
                 .content("Content for " + title)
+                .excerpt("Excerpt for " + title)
                 .readingTime(5)
                 .status(status)
                 .author(postAuthor)
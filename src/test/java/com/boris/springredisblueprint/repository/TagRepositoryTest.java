@@ -0,0 +1,110 @@
+package com.boris.springredisblueprint.repository;
+
+import com.boris.springredisblueprint.model.entity.Category;
+import com.boris.springredisblueprint.model.entity.Post;
+import com.boris.springredisblueprint.model.entity.Tag;
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.TagPostCount;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("TagRepository")
+class TagRepositoryTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(User.builder()
+                .name("Alice")
+                .email("alice@example.com")
+                .password("password")
+                .build());
+        category = entityManager.persist(Category.builder().name("Backend").build());
+    }
+
+    @Nested
+    @DisplayName("findAllWithPostCount")
+    class FindAllWithPostCount {
+
+        @Test
+        @DisplayName("should read the maintained counters ordered by name")
+        void findAllWithPostCount_readsCounters() {
+            Tag spring = entityManager.persist(Tag.builder().name("spring").build());
+            Tag java = entityManager.persist(Tag.builder().name("java").build());
+            entityManager.flush();
+
+            tagRepository.incrementPublishedPostCount(List.of(java.getId(), spring.getId()), 1);
+            tagRepository.incrementPublishedPostCount(List.of(java.getId()), 1);
+
+            List<TagPostCount> result = tagRepository.findAllWithPostCount();
+
+            assertThat(result)
+                    .extracting(TagPostCount::getId, TagPostCount::getName, TagPostCount::getPostCount)
+                    .containsExactly(
+                            tuple(java.getId(), "java", 2),
+                            tuple(spring.getId(), "spring", 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcilePublishedPostCounts")
+    class ReconcilePublishedPostCounts {
+
+        @Test
+        @DisplayName("should repair only the counters that drifted")
+        void reconcilePublishedPostCounts_repairsDrift() {
+            Tag java = entityManager.persist(Tag.builder().name("java").build());
+            Tag spring = entityManager.persist(Tag.builder().name("spring").build());
+            Tag unused = entityManager.persist(Tag.builder().name("unused").build());
+
+            persistPost("Published", PostStatusEnum.PUBLISHED, Set.of(java, spring));
+            persistPost("Also published", PostStatusEnum.PUBLISHED, Set.of(java));
+            persistPost("Draft", PostStatusEnum.DRAFT, Set.of(java, spring));
+            tagRepository.incrementPublishedPostCount(List.of(spring.getId()), 1);
+
+            int repaired = tagRepository.reconcilePublishedPostCounts();
+            entityManager.clear();
+
+            assertThat(repaired).isEqualTo(1);
+            assertThat(tagRepository.findAllWithPostCount())
+                    .extracting(TagPostCount::getId, TagPostCount::getPostCount)
+                    .containsExactly(
+                            tuple(java.getId(), 2),
+                            tuple(spring.getId(), 1),
+                            tuple(unused.getId(), 0));
+        }
+    }
+
+    private void persistPost(String title, PostStatusEnum status, Set<Tag> tags) {
+        entityManager.persist(Post.builder()
+                .title(title)
+                .content("Content for " + title)
+                .readingTime(1)
+                .status(status)
+                .author(author)
+                .category(category)
+                .tags(new HashSet<>(tags))
+                .build());
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,68 @@
+package com.boris.springredisblueprint.security;
+
+import com.boris.springredisblueprint.exception.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginRateLimiter")
+class LoginRateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(redisTemplate, Duration.ofMinutes(15), 10, 100);
+    }
+
+    @Test
+    @DisplayName("should allow an attempt within both windows")
+    void shouldAllowAttempt() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        assertThatCode(() -> loginRateLimiter.acquire("Boris@Example.com", "10.0.0.1")).doesNotThrowAnyException();
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(LoginRateLimiter.EMAIL_KEY_PREFIX + "boris@example.com",
+                        LoginRateLimiter.CLIENT_KEY_PREFIX + "10.0.0.1")),
+                eq("900000"), eq("10"), eq("100"), anyString());
+    }
+
+    @Test
+    @DisplayName("should throttle an attempt over the limit with the time until the window frees up")
+    void shouldThrottleAttempt() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(42_000L);
+
+        assertThatThrownBy(() -> loginRateLimiter.acquire("boris@example.com", "10.0.0.1"))
+                .isInstanceOfSatisfying(LoginThrottledException.class, e ->
+                        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(42)));
+    }
+
+    @Test
+    @DisplayName("should let attempts through when Redis is unavailable")
+    void shouldFailOpenWhenRedisIsDown() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertThatCode(() -> loginRateLimiter.acquire("boris@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,84 @@
+package com.boris.springredisblueprint.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingExecutor")
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("should return the task result and record its duration")
+    void shouldReturnResult() {
+        assertThat(executor.execute(() -> "verified")).isEqualTo("verified");
+
+        assertThat(meterRegistry.get("executor").tag("name", "password.hashing").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should rethrow the exception of the task")
+    void shouldRethrowTaskException() {
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        })).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("should reject work when the pool and queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        awaitQueued(1);
+
+        try {
+            assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < tasks) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
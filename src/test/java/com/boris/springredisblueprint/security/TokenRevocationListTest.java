@@ -0,0 +1,149 @@
+package com.boris.springredisblueprint.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationList")
+class TokenRevocationListTest {
+
+    private static final String CHANNEL = "jwt:revoked";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(redisTemplate, CHANNEL, 1_000, 0.001);
+    }
+
+    @Nested
+    @DisplayName("revoke")
+    class Revoke {
+
+        @Test
+        @DisplayName("should store the token id with the remaining lifetime and publish it")
+        void shouldStoreAndPublish() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+            tokenRevocationList.revoke("jti-1", Instant.now().plus(Duration.ofMinutes(5)));
+
+            verify(valueOperations).set(eq(TokenRevocationList.KEY_PREFIX + "jti-1"), eq("1"),
+                    argThat((Duration ttl) -> ttl.compareTo(Duration.ofMinutes(4)) > 0
+                            && ttl.compareTo(Duration.ofMinutes(5)) <= 0));
+            verify(redisTemplate).convertAndSend(CHANNEL, "jti-1");
+        }
+
+        @Test
+        @DisplayName("should ignore tokens that already expired")
+        void shouldIgnoreExpiredTokens() {
+            tokenRevocationList.revoke("jti-1", Instant.now().minusSeconds(1));
+
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("isRevoked")
+    class IsRevoked {
+
+        @Test
+        @DisplayName("should answer without Redis for tokens that were never revoked once the filter is loaded")
+        void shouldSkipRedisForUnknownIds() {
+            loadFilter();
+
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isFalse();
+
+            verify(redisTemplate, never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("should check Redis for every token until the filter is loaded")
+        void shouldCheckRedisBeforeFirstRebuild() {
+            when(redisTemplate.hasKey(TokenRevocationList.KEY_PREFIX + "jti-1")).thenReturn(true);
+
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep checking Redis when the first rebuild fails")
+        void shouldCheckRedisAfterFailedRebuild() {
+            when(redisTemplate.scan(any(ScanOptions.class)))
+                    .thenThrow(new RedisConnectionFailureException("Connection refused"));
+            when(redisTemplate.hasKey(TokenRevocationList.KEY_PREFIX + "jti-1")).thenReturn(true);
+
+            assertThatThrownBy(() -> tokenRevocationList.rebuild())
+                    .isInstanceOf(RedisConnectionFailureException.class);
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should find ids loaded from Redis by a rebuild")
+        void shouldFindRebuiltIds() {
+            loadFilter(TokenRevocationList.KEY_PREFIX + "jti-1");
+            when(redisTemplate.hasKey(TokenRevocationList.KEY_PREFIX + "jti-1")).thenReturn(true);
+
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should confirm ids revoked on another node against Redis")
+        void shouldConfirmIdsFromOtherNodes() {
+            tokenRevocationList.onMessage(
+                    new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "jti-1".getBytes(StandardCharsets.UTF_8)),
+                    null);
+            when(redisTemplate.hasKey(TokenRevocationList.KEY_PREFIX + "jti-1")).thenReturn(true);
+
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should not treat an expired revocation as revoked")
+        void shouldNotTreatExpiredRevocationAsRevoked() {
+            tokenRevocationList.onMessage(
+                    new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "jti-1".getBytes(StandardCharsets.UTF_8)),
+                    null);
+            when(redisTemplate.hasKey(TokenRevocationList.KEY_PREFIX + "jti-1")).thenReturn(false);
+
+            assertThat(tokenRevocationList.isRevoked("jti-1")).isFalse();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadFilter(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = List.of(keys).iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        tokenRevocationList.rebuild();
+    }
+}
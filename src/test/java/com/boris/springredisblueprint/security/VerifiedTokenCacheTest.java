@@ -0,0 +1,94 @@
+package com.boris.springredisblueprint.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VerifiedTokenCache")
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("should verify a repeated token only once")
+    void shouldVerifyRepeatedTokenOnce() {
+        Function<String, Claims> verifier = countingVerifier(claimsExpiringIn(60_000));
+
+        Claims first = cache.get("token", verifier);
+        Claims second = cache.get("token", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should verify different tokens separately")
+    void shouldVerifyDifferentTokensSeparately() {
+        Function<String, Claims> verifier = countingVerifier(claimsExpiringIn(60_000));
+
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not serve claims of an expired token")
+    void shouldNotServeExpiredClaims() {
+        Function<String, Claims> verifier = countingVerifier(claimsExpiringIn(-1_000));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not cache verification failures")
+    void shouldNotCacheFailures() {
+        Function<String, Claims> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new SignatureException("bad signature");
+        };
+
+        assertThatThrownBy(() -> cache.get("token", verifier)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> cache.get("token", verifier)).isInstanceOf(SignatureException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should always verify when disabled")
+    void shouldAlwaysVerifyWhenDisabled() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(0);
+        Function<String, Claims> verifier = countingVerifier(claimsExpiringIn(60_000));
+
+        disabled.get("token", verifier);
+        disabled.get("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private Function<String, Claims> countingVerifier(Claims claims) {
+        return token -> {
+            verifications.incrementAndGet();
+            return claims;
+        };
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("boris@example.com")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+}
@@ -1,23 +1,32 @@
 package com.boris.springredisblueprint.service.command.impl;
 
+import com.boris.springredisblueprint.cache.PostCache;
+import com.boris.springredisblueprint.cache.PostChangedEvent;
+import com.boris.springredisblueprint.cache.PostIdFilter;
 import com.boris.springredisblueprint.exception.PostNotFoundException;
+import com.boris.springredisblueprint.mapper.PostMapper;
 import com.boris.springredisblueprint.model.CreatePostRequest;
+import com.boris.springredisblueprint.model.PostScope;
 import com.boris.springredisblueprint.model.UpdatePostRequest;
+import com.boris.springredisblueprint.model.dto.PostDto;
 import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
 import com.boris.springredisblueprint.model.type.PostStatusEnum;
 import com.boris.springredisblueprint.repository.PostRepository;
+import com.boris.springredisblueprint.service.command.PostCounterCommandService;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
 import com.boris.springredisblueprint.service.query.TagQueryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +54,21 @@ class PostCommandServiceImplTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PostIdFilter postIdFilter;
+
+    @Mock
+    private PostMapper postMapper;
+
+    @Mock
+    private PostCounterCommandService postCounterCommandService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("createPost")
     class CreatePost {
@@ -73,6 +97,8 @@ class PostCommandServiceImplTest {
             assertThat(result.getTags()).containsExactly(tag);
             assertThat(result.getStatus()).isEqualTo(PostStatusEnum.PUBLISHED);
             assertThat(result.getId()).isNotNull();
+            verify(postIdFilter).add(result.getId());
+            verify(eventPublisher).publishEvent(PostChangedEvent.created(result.getId(), PostScope.of(result)));
         }
 
         @Test
@@ -111,6 +137,26 @@ class PostCommandServiceImplTest {
             assertThat(result.getReadingTime()).isEqualTo(2);
         }
 
+        @Test
+        @DisplayName("should store word and character counts and the excerpt of the content")
+        void shouldStoreTextStats() {
+            String content = "Caching\u00A0with Redis\n\tand Spring";
+            User user = buildUser();
+            Category category = buildCategory();
+            CreatePostRequest request = buildCreatePostRequest("Title", content, PostStatusEnum.DRAFT, category.getId(), Set.of());
+
+            when(categoryQueryService.getCategoryById(any())).thenReturn(category);
+            when(tagQueryService.getTagByIds(any())).thenReturn(List.of());
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            Post result = postCommandService.createPost(user, request);
+
+            assertThat(result.getWordCount()).isEqualTo(5);
+            assertThat(result.getCharacterCount()).isEqualTo(content.length());
+            assertThat(result.getReadingTime()).isEqualTo(1);
+            assertThat(result.getExcerpt()).isEqualTo("Caching with Redis and Spring");
+        }
+
         @Test
         @DisplayName("should set reading time to 0 for null content")
         void shouldSetReadingTimeToZeroForNullContent() {
@@ -142,6 +188,45 @@ class PostCommandServiceImplTest {
 
             assertThat(result.getReadingTime()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("should announce the scope of the created post so its listings are invalidated after commit")
+        void shouldInvalidateListingsOnCreate() {
+            User user = buildUser();
+            Category category = buildCategory();
+            Tag tag = buildTag();
+            CreatePostRequest request = buildCreatePostRequest("Title", "content", PostStatusEnum.PUBLISHED, category.getId(), Set.of(tag.getId()));
+
+            when(categoryQueryService.getCategoryById(category.getId())).thenReturn(category);
+            when(tagQueryService.getTagByIds(request.getTagIds())).thenReturn(List.of(tag));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            postCommandService.createPost(user, request);
+
+            ArgumentCaptor<PostChangedEvent> event = ArgumentCaptor.forClass(PostChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().previousScope()).isNull();
+            assertThat(event.getValue().currentScope())
+                    .isEqualTo(new PostScope(PostStatusEnum.PUBLISHED, category.getId(), Set.of(tag.getId())));
+        }
+
+        @Test
+        @DisplayName("should count the created post in its tag and category counters")
+        void shouldApplyCountersOnCreate() {
+            User user = buildUser();
+            Category category = buildCategory();
+            Tag tag = buildTag();
+            CreatePostRequest request = buildCreatePostRequest("Title", "content", PostStatusEnum.PUBLISHED, category.getId(), Set.of(tag.getId()));
+
+            when(categoryQueryService.getCategoryById(category.getId())).thenReturn(category);
+            when(tagQueryService.getTagByIds(request.getTagIds())).thenReturn(List.of(tag));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            postCommandService.createPost(user, request);
+
+            verify(postCounterCommandService).applyScopeChange(
+                    null, new PostScope(PostStatusEnum.PUBLISHED, category.getId(), Set.of(tag.getId())));
+        }
     }
 
     @Nested
@@ -276,6 +361,83 @@ class PostCommandServiceImplTest {
 
             verify(tagQueryService, never()).getTagByIds(any());
         }
+
+        @Test
+        @DisplayName("should announce both the previous and the updated scope so their listings are invalidated after commit")
+        void shouldInvalidatePreviousAndUpdatedScope() {
+            UUID id = UUID.randomUUID();
+            Category oldCategory = buildCategory();
+            Category newCategory = buildCategory();
+            Tag oldTag = buildTag();
+            Tag newTag = buildTag();
+
+            Post existing = buildPost(id, "Title", "content", oldCategory, Set.of(oldTag));
+            existing.setStatus(PostStatusEnum.DRAFT);
+            UpdatePostRequest request = buildUpdatePostRequest("Title", "content", PostStatusEnum.PUBLISHED, newCategory.getId(), Set.of(newTag.getId()));
+
+            when(postRepository.findById(id)).thenReturn(Optional.of(existing));
+            when(categoryQueryService.getCategoryById(newCategory.getId())).thenReturn(newCategory);
+            when(tagQueryService.getTagByIds(Set.of(newTag.getId()))).thenReturn(List.of(newTag));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            postCommandService.updatePost(id, request);
+
+            ArgumentCaptor<PostChangedEvent> event = ArgumentCaptor.forClass(PostChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().previousScope())
+                    .isEqualTo(new PostScope(PostStatusEnum.DRAFT, oldCategory.getId(), Set.of(oldTag.getId())));
+            assertThat(event.getValue().currentScope())
+                    .isEqualTo(new PostScope(PostStatusEnum.PUBLISHED, newCategory.getId(), Set.of(newTag.getId())));
+            verify(postCounterCommandService).applyScopeChange(
+                    new PostScope(PostStatusEnum.DRAFT, oldCategory.getId(), Set.of(oldTag.getId())),
+                    new PostScope(PostStatusEnum.PUBLISHED, newCategory.getId(), Set.of(newTag.getId())));
+        }
+
+        @Test
+        @DisplayName("should flush and announce the new version instead of evicting before commit")
+        void shouldPublishNewVersion() {
+            UUID id = UUID.randomUUID();
+            Category category = buildCategory();
+            Post existing = buildPost(id, "Title", "content", category, Set.of());
+            UpdatePostRequest request = buildUpdatePostRequest("New Title", "content", PostStatusEnum.DRAFT, category.getId(), Set.of());
+
+            when(postRepository.findById(id)).thenReturn(Optional.of(existing));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            doAnswer(inv -> {
+                existing.setVersion(existing.getVersion() + 1);
+                return null;
+            }).when(postRepository).flush();
+
+            postCommandService.updatePost(id, request);
+
+            ArgumentCaptor<PostChangedEvent> event = ArgumentCaptor.forClass(PostChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().postId()).isEqualTo(id);
+            assertThat(event.getValue().version()).isEqualTo(1L);
+            assertThat(event.getValue().post()).isNull();
+        }
+
+        @Test
+        @DisplayName("should hand the updated post to the cache when writing through")
+        void shouldPublishUpdatedPostWhenWritingThrough() {
+            UUID id = UUID.randomUUID();
+            Category category = buildCategory();
+            Post existing = buildPost(id, "Title", "content", category, Set.of());
+            UpdatePostRequest request = buildUpdatePostRequest("New Title", "content", PostStatusEnum.DRAFT, category.getId(), Set.of());
+            PostDto updatedDto = PostDto.builder().id(id).title("New Title").version(0L).build();
+
+            when(postRepository.findById(id)).thenReturn(Optional.of(existing));
+            when(postRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(postCache.isWriteThrough()).thenReturn(true);
+            when(postMapper.toDto(existing)).thenReturn(updatedDto);
+
+            postCommandService.updatePost(id, request);
+
+            ArgumentCaptor<PostChangedEvent> event = ArgumentCaptor.forClass(PostChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().version()).isEqualTo(0L);
+            assertThat(event.getValue().post()).isEqualTo(updatedDto);
+        }
     }
 
     @Nested
@@ -294,6 +456,8 @@ class PostCommandServiceImplTest {
             postCommandService.deletePost(id);
 
             verify(postRepository).delete(post);
+            verify(postCounterCommandService).applyScopeChange(PostScope.of(post), null);
+            verify(eventPublisher).publishEvent(PostChangedEvent.deleted(id, PostScope.of(post)));
         }
 
         @Test
@@ -307,6 +471,7 @@ class PostCommandServiceImplTest {
                     .hasMessageContaining(id.toString());
 
             verify(postRepository, never()).delete(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
@@ -335,6 +500,7 @@ class PostCommandServiceImplTest {
                 .content(content)
                 .category(category)
                 .tags(tags)
+                .version(0L)
                 .build();
     }
 
@@ -0,0 +1,101 @@
+package com.boris.springredisblueprint.service.command.impl;
+
+import com.boris.springredisblueprint.model.PostScope;
+import com.boris.springredisblueprint.model.type.PostStatusEnum;
+import com.boris.springredisblueprint.repository.CategoryRepository;
+import com.boris.springredisblueprint.repository.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCounterCommandServiceImpl")
+class PostCounterCommandServiceImplTest {
+
+    @InjectMocks
+    private PostCounterCommandServiceImpl postCounterCommandService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID tagA = UUID.randomUUID();
+    private final UUID tagB = UUID.randomUUID();
+
+    @Nested
+    @DisplayName("applyScopeChange")
+    class ApplyScopeChange {
+
+        @Test
+        @DisplayName("should increment the counters of a newly published post")
+        void shouldIncrementOnPublish() {
+            postCounterCommandService.applyScopeChange(
+                    new PostScope(PostStatusEnum.DRAFT, categoryId, Set.of(tagA)),
+                    new PostScope(PostStatusEnum.PUBLISHED, categoryId, Set.of(tagA)));
+
+            verify(categoryRepository).incrementPublishedPostCount(categoryId, 1);
+            verify(tagRepository).incrementPublishedPostCount(List.of(tagA), 1);
+        }
+
+        @Test
+        @DisplayName("should decrement the counters of a deleted published post")
+        void shouldDecrementOnDelete() {
+            postCounterCommandService.applyScopeChange(
+                    new PostScope(PostStatusEnum.PUBLISHED, categoryId, Set.of(tagA)), null);
+
+            verify(categoryRepository).incrementPublishedPostCount(categoryId, -1);
+            verify(tagRepository).incrementPublishedPostCount(List.of(tagA), -1);
+        }
+
+        @Test
+        @DisplayName("should only touch the tags that changed on a published post")
+        void shouldOnlyMoveChangedTags() {
+            postCounterCommandService.applyScopeChange(
+                    new PostScope(PostStatusEnum.PUBLISHED, categoryId, Set.of(tagA)),
+                    new PostScope(PostStatusEnum.PUBLISHED, categoryId, Set.of(tagA, tagB)));
+
+            verify(categoryRepository, never()).incrementPublishedPostCount(any(), anyInt());
+            verify(tagRepository).incrementPublishedPostCount(List.of(tagB), 1);
+            verifyNoMoreInteractions(tagRepository);
+        }
+
+        @Test
+        @DisplayName("should not touch any counter for drafts")
+        void shouldIgnoreDrafts() {
+            postCounterCommandService.applyScopeChange(
+                    null, new PostScope(PostStatusEnum.DRAFT, categoryId, Set.of(tagA)));
+
+            verifyNoInteractions(tagRepository, categoryRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class Reconcile {
+
+        @Test
+        @DisplayName("should return the number of repaired counters")
+        void shouldReturnRepairedCount() {
+            when(tagRepository.reconcilePublishedPostCounts()).thenReturn(2);
+            when(categoryRepository.reconcilePublishedPostCounts()).thenReturn(1);
+
+            assertThat(postCounterCommandService.reconcile()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.boris.springredisblueprint.service.impl;
+
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.security.BlogUserDetails;
+import com.boris.springredisblueprint.security.JwtKeyRing;
+import com.boris.springredisblueprint.security.JwtUserPrincipal;
+import com.boris.springredisblueprint.security.PasswordHashingExecutor;
+import com.boris.springredisblueprint.security.TokenRevocationList;
+import com.boris.springredisblueprint.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticationServiceImpl")
+class AuthenticationServiceImplTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+    private static final String PREVIOUS_SECRET = "previous-secret-key-that-is-at-least-32-bytes";
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private AuthenticationServiceImpl authenticationService;
+
+    private BlogUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        authenticationService = serviceWithKeys(SECRET, List.of(PREVIOUS_SECRET));
+
+        userDetails = new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .name("Boris")
+                .email("boris@example.com")
+                .password("password")
+                .build());
+    }
+
+    @Nested
+    @DisplayName("authenticate")
+    class Authenticate {
+
+        @Test
+        @DisplayName("should return the authenticated principal without loading the user again")
+        void shouldReturnAuthenticatedPrincipal() {
+            when(authenticationManager.authenticate(any())).thenReturn(
+                    UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities()));
+
+            UserDetails result = authenticationService.authenticate("boris@example.com", "password");
+
+            assertThat(result).isSameAs(userDetails);
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("should propagate rejected credentials")
+        void shouldPropagateBadCredentials() {
+            when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+            assertThatThrownBy(() -> authenticationService.authenticate("boris@example.com", "wrong"))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("validateToken")
+    class ValidateToken {
+
+        @Test
+        @DisplayName("should build the principal from the token claims without loading the user")
+        void shouldBuildPrincipalFromClaims() {
+            String token = authenticationService.generateToken(userDetails);
+
+            UserDetails result = authenticationService.validateToken(token);
+
+            assertThat(result).isInstanceOf(JwtUserPrincipal.class);
+            JwtUserPrincipal principal = (JwtUserPrincipal) result;
+            assertThat(principal.getId()).isEqualTo(userDetails.getId());
+            assertThat(principal.getUsername()).isEqualTo("boris@example.com");
+            assertThat(principal.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER");
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("should load the user for tokens issued without a user id claim")
+        void shouldLoadUserForLegacyTokens() {
+            String legacyToken = Jwts.builder()
+                    .subject("boris@example.com")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .compact();
+            when(userDetailsService.loadUserByUsername("boris@example.com")).thenReturn(userDetails);
+
+            UserDetails result = authenticationService.validateToken(legacyToken);
+
+            assertThat(result).isInstanceOf(JwtUserPrincipal.class);
+            assertThat(((JwtUserPrincipal) result).getId()).isEqualTo(userDetails.getId());
+            verify(userDetailsService).loadUserByUsername("boris@example.com");
+        }
+
+        @Test
+        @DisplayName("should reject a token with a tampered payload")
+        void shouldRejectTamperedToken() {
+            String token = authenticationService.generateToken(userDetails);
+            String[] parts = token.split("\\.");
+            String forged = authenticationService.generateToken(new BlogUserDetails(User.builder()
+                    .id(UUID.randomUUID())
+                    .email("mallory@example.com")
+                    .build()));
+            String tampered = parts[0] + "." + forged.split("\\.")[1] + "." + parts[2];
+
+            assertThatThrownBy(() -> authenticationService.validateToken(tampered))
+                    .isInstanceOf(JwtException.class);
+        }
+
+        @Test
+        @DisplayName("should accept tokens signed with a previous key after rotation")
+        void shouldAcceptTokensOfPreviousKey() {
+            String token = serviceWithKeys(PREVIOUS_SECRET, List.of()).generateToken(userDetails);
+
+            UserDetails result = authenticationService.validateToken(token);
+
+            assertThat(((JwtUserPrincipal) result).getId()).isEqualTo(userDetails.getId());
+        }
+
+        @Test
+        @DisplayName("should reject tokens signed with a key that is no longer in the ring")
+        void shouldRejectTokensOfUnknownKey() {
+            String token = serviceWithKeys("retired-secret-key-that-is-at-least-32-bytes", List.of())
+                    .generateToken(userDetails);
+
+            assertThatThrownBy(() -> authenticationService.validateToken(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("key id");
+        }
+    }
+
+    @Nested
+    @DisplayName("revokeToken")
+    class RevokeToken {
+
+        @Test
+        @DisplayName("should revoke the token id until the token expires")
+        void shouldRevokeTokenId() {
+            String token = authenticationService.generateToken(userDetails);
+            Claims claims = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                    .parseSignedClaims(token).getPayload();
+
+            authenticationService.revokeToken(token);
+
+            verify(tokenRevocationList).revoke(claims.getId(), claims.getExpiration().toInstant());
+        }
+
+        @Test
+        @DisplayName("should reject a revoked token")
+        void shouldRejectRevokedToken() {
+            String token = authenticationService.generateToken(userDetails);
+            when(tokenRevocationList.isRevoked(anyString())).thenReturn(true);
+
+            assertThatThrownBy(() -> authenticationService.validateToken(token))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+
+        @Test
+        @DisplayName("should refuse to revoke a token without an id")
+        void shouldRefuseTokensWithoutId() {
+            String legacyToken = Jwts.builder()
+                    .subject("boris@example.com")
+                    .expiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .compact();
+
+            assertThatThrownBy(() -> authenticationService.revokeToken(legacyToken))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(tokenRevocationList, never()).revoke(anyString(), any(Instant.class));
+        }
+    }
+
+    private AuthenticationServiceImpl serviceWithKeys(String secret, List<String> previousSecrets) {
+        return new AuthenticationServiceImpl(
+                authenticationManager,
+                new PasswordHashingExecutor(1, 1, new SimpleMeterRegistry()),
+                userDetailsService,
+                new JwtKeyRing(secret, previousSecrets),
+                new VerifiedTokenCache(100),
+                tokenRevocationList);
+    }
+}
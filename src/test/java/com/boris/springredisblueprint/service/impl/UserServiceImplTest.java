@@ -0,0 +1,50 @@
+package com.boris.springredisblueprint.service.impl;
+
+import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserServiceImpl")
+class UserServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @Test
+    @DisplayName("should return an existing user")
+    void shouldReturnExistingUser() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder().id(userId).build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertThat(userService.getUserById(userId)).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("should reject a user that no longer exists")
+    void shouldRejectDeletedUser() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.getUserById(userId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(userId.toString());
+    }
+}
@@ -1,12 +1,22 @@
 package com.boris.springredisblueprint.service.query.impl;
 
+import com.boris.springredisblueprint.cache.PostCache;
+import com.boris.springredisblueprint.cache.PostIdFilter;
+import com.boris.springredisblueprint.cache.PostIdPage;
+import com.boris.springredisblueprint.cache.PostListingCache;
 import com.boris.springredisblueprint.exception.PostNotFoundException;
 import com.boris.springredisblueprint.mapper.PostMapper;
+import com.boris.springredisblueprint.model.FeedCursor;
+import com.boris.springredisblueprint.model.dto.CursorSliceDto;
 import com.boris.springredisblueprint.model.dto.PostDto;
+import com.boris.springredisblueprint.model.dto.PostSummaryDto;
+import com.boris.springredisblueprint.model.dto.TagDto;
 import com.boris.springredisblueprint.model.entity.Category;
 import com.boris.springredisblueprint.model.entity.Post;
 import com.boris.springredisblueprint.model.entity.Tag;
 import com.boris.springredisblueprint.model.entity.User;
+import com.boris.springredisblueprint.model.projection.PostSummaryView;
+import com.boris.springredisblueprint.model.projection.PostTagView;
 import com.boris.springredisblueprint.model.type.PostStatusEnum;
 import com.boris.springredisblueprint.repository.PostRepository;
 import com.boris.springredisblueprint.service.query.CategoryQueryService;
@@ -18,18 +28,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +68,15 @@ class PostQueryServiceImplTest {
     @Mock
     private PostMapper postMapper;
 
+    @Mock
+    private PostListingCache postListingCache;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PostIdFilter postIdFilter;
+
     @Nested
     @DisplayName("getAllPosts")
     class GetAllPosts {
@@ -59,20 +85,20 @@ class PostQueryServiceImplTest {
         @DisplayName("should query by status only when categoryId and tagId are null")
         void shouldQueryByStatusOnlyWhenNoFilters() {
             Pageable pageable = PageRequest.of(0, 10);
-            Post post = buildPost();
-            PostDto dto = buildPostDto();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            PostSummaryView view = buildSummaryView();
+            PostSummaryDto summary = buildSummaryDto();
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view));
 
-            when(postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, pageable)).thenReturn(page);
-            when(postMapper.toDto(post)).thenReturn(dto);
+            when(postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable)).thenReturn(page);
+            when(postMapper.toSummaryDto(eq(view), any())).thenReturn(summary);
 
-            Page<PostDto> result = postQueryService.getAllPosts(null, null, pageable);
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(null, null, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto);
-            verify(postRepository).findAllByStatus(PostStatusEnum.PUBLISHED, pageable);
-            verify(postRepository, never()).findAllByStatusAndCategory(any(), any(), any());
-            verify(postRepository, never()).findAllByStatusAndTagsContaining(any(), any(), any());
-            verify(postRepository, never()).findAllByStatusAndCategoryAndTagsContaining(any(), any(), any(), any());
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(postRepository).findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable);
+            verify(postRepository, never()).findSummariesByStatusAndCategory(any(), any(), any());
+            verify(postRepository, never()).findSummariesByStatusAndTag(any(), any(), any());
+            verify(postRepository, never()).findSummariesByStatusAndCategoryAndTag(any(), any(), any(), any());
         }
 
         @Test
@@ -81,19 +107,19 @@ class PostQueryServiceImplTest {
             UUID categoryId = UUID.randomUUID();
             Category category = buildCategory(categoryId);
             Pageable pageable = PageRequest.of(0, 10);
-            Post post = buildPost();
-            PostDto dto = buildPostDto();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            PostSummaryView view = buildSummaryView();
+            PostSummaryDto summary = buildSummaryDto();
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view));
 
             when(categoryQueryService.getCategoryById(categoryId)).thenReturn(category);
-            when(postRepository.findAllByStatusAndCategory(PostStatusEnum.PUBLISHED, category, pageable)).thenReturn(page);
-            when(postMapper.toDto(post)).thenReturn(dto);
+            when(postRepository.findSummariesByStatusAndCategory(PostStatusEnum.PUBLISHED, category, pageable)).thenReturn(page);
+            when(postMapper.toSummaryDto(eq(view), any())).thenReturn(summary);
 
-            Page<PostDto> result = postQueryService.getAllPosts(categoryId, null, pageable);
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(categoryId, null, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto);
-            verify(postRepository).findAllByStatusAndCategory(PostStatusEnum.PUBLISHED, category, pageable);
-            verify(postRepository, never()).findAllByStatus(any(), any());
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(postRepository).findSummariesByStatusAndCategory(PostStatusEnum.PUBLISHED, category, pageable);
+            verify(postRepository, never()).findSummariesByStatus(any(), any());
         }
 
         @Test
@@ -102,19 +128,19 @@ class PostQueryServiceImplTest {
             UUID tagId = UUID.randomUUID();
             Tag tag = buildTag(tagId);
             Pageable pageable = PageRequest.of(0, 10);
-            Post post = buildPost();
-            PostDto dto = buildPostDto();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            PostSummaryView view = buildSummaryView();
+            PostSummaryDto summary = buildSummaryDto();
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view));
 
             when(tagQueryService.getTagById(tagId)).thenReturn(tag);
-            when(postRepository.findAllByStatusAndTagsContaining(PostStatusEnum.PUBLISHED, tag, pageable)).thenReturn(page);
-            when(postMapper.toDto(post)).thenReturn(dto);
+            when(postRepository.findSummariesByStatusAndTag(PostStatusEnum.PUBLISHED, tag, pageable)).thenReturn(page);
+            when(postMapper.toSummaryDto(eq(view), any())).thenReturn(summary);
 
-            Page<PostDto> result = postQueryService.getAllPosts(null, tagId, pageable);
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(null, tagId, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto);
-            verify(postRepository).findAllByStatusAndTagsContaining(PostStatusEnum.PUBLISHED, tag, pageable);
-            verify(postRepository, never()).findAllByStatus(any(), any());
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(postRepository).findSummariesByStatusAndTag(PostStatusEnum.PUBLISHED, tag, pageable);
+            verify(postRepository, never()).findSummariesByStatus(any(), any());
         }
 
         @Test
@@ -125,55 +151,157 @@ class PostQueryServiceImplTest {
             Category category = buildCategory(categoryId);
             Tag tag = buildTag(tagId);
             Pageable pageable = PageRequest.of(0, 10);
-            Post post = buildPost();
-            PostDto dto = buildPostDto();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            PostSummaryView view = buildSummaryView();
+            PostSummaryDto summary = buildSummaryDto();
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view));
 
             when(categoryQueryService.getCategoryById(categoryId)).thenReturn(category);
             when(tagQueryService.getTagById(tagId)).thenReturn(tag);
-            when(postRepository.findAllByStatusAndCategoryAndTagsContaining(PostStatusEnum.PUBLISHED, category, tag, pageable)).thenReturn(page);
-            when(postMapper.toDto(post)).thenReturn(dto);
+            when(postRepository.findSummariesByStatusAndCategoryAndTag(PostStatusEnum.PUBLISHED, category, tag, pageable)).thenReturn(page);
+            when(postMapper.toSummaryDto(eq(view), any())).thenReturn(summary);
 
-            Page<PostDto> result = postQueryService.getAllPosts(categoryId, tagId, pageable);
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(categoryId, tagId, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto);
-            verify(postRepository).findAllByStatusAndCategoryAndTagsContaining(PostStatusEnum.PUBLISHED, category, tag, pageable);
-            verify(postRepository, never()).findAllByStatus(any(), any());
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(postRepository).findSummariesByStatusAndCategoryAndTag(PostStatusEnum.PUBLISHED, category, tag, pageable);
+            verify(postRepository, never()).findSummariesByStatus(any(), any());
         }
 
         @Test
         @DisplayName("should return empty page when no posts match")
         void shouldReturnEmptyPageWhenNoPostsMatch() {
             Pageable pageable = PageRequest.of(0, 10);
-            when(postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, pageable))
+            when(postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable))
                     .thenReturn(new PageImpl<>(List.of()));
 
-            Page<PostDto> result = postQueryService.getAllPosts(null, null, pageable);
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(null, null, pageable);
 
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
-            verify(postMapper, never()).toDto(any());
+            verify(postRepository, never()).findTagsByPostIdIn(any());
         }
 
         @Test
-        @DisplayName("should map each post to a DTO via PostMapper")
-        void shouldMapPostsToDtos() {
+        @DisplayName("should load the tags of the whole page in one query and group them by post")
+        void shouldLoadTagsOfPageInOneQuery() {
             Pageable pageable = PageRequest.of(0, 10);
-            Post post1 = buildPost();
-            Post post2 = buildPost();
-            PostDto dto1 = buildPostDto();
-            PostDto dto2 = buildPostDto();
+            PostSummaryView first = buildSummaryView();
+            PostSummaryView second = buildSummaryView();
+            PostTagView tag = buildTagView(first.getId(), "java");
 
-            when(postRepository.findAllByStatus(PostStatusEnum.PUBLISHED, pageable))
-                    .thenReturn(new PageImpl<>(List.of(post1, post2)));
-            when(postMapper.toDto(post1)).thenReturn(dto1);
-            when(postMapper.toDto(post2)).thenReturn(dto2);
+            when(postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable))
+                    .thenReturn(new PageImpl<>(List.of(first, second)));
+            when(postRepository.findTagsByPostIdIn(List.of(first.getId(), second.getId()))).thenReturn(List.of(tag));
+            when(postMapper.toSummaryDto(any(PostSummaryView.class), any())).thenReturn(buildSummaryDto());
 
-            Page<PostDto> result = postQueryService.getAllPosts(null, null, pageable);
+            postQueryService.getAllPosts(null, null, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto1, dto2);
-            verify(postMapper).toDto(post1);
-            verify(postMapper).toDto(post2);
+            verify(postRepository).findTagsByPostIdIn(List.of(first.getId(), second.getId()));
+            verify(postMapper).toSummaryDto(first, Set.of(TagDto.builder().id(tag.getId()).name("java").build()));
+            verify(postMapper).toSummaryDto(second, Set.of());
+            verify(postRepository, never()).findAllByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("should store the ids of the queried page in the listing cache")
+        void shouldStoreQueriedPageInListingCache() {
+            Pageable pageable = PageRequest.of(0, 10);
+            PostSummaryView view = buildSummaryView();
+
+            when(postListingCache.keyFor(null, null, pageable)).thenReturn("listing-key");
+            when(postRepository.findSummariesByStatus(PostStatusEnum.PUBLISHED, pageable))
+                    .thenReturn(new PageImpl<>(List.of(view), pageable, 1));
+
+            postQueryService.getAllPosts(null, null, pageable);
+
+            verify(postListingCache).put("listing-key", new PostIdPage(List.of(view.getId()), 1));
+        }
+
+        @Test
+        @DisplayName("should serve a cached listing from summaries in cached order without reading post bodies")
+        void shouldServeCachedListingFromSummaries() {
+            Pageable pageable = PageRequest.of(0, 10);
+            PostSummaryView first = buildSummaryView();
+            PostSummaryView second = buildSummaryView();
+            PostSummaryDto firstSummary = buildSummaryDto(first.getId());
+            PostSummaryDto secondSummary = buildSummaryDto(second.getId());
+
+            when(postListingCache.keyFor(null, null, pageable)).thenReturn("listing-key");
+            when(postListingCache.get("listing-key"))
+                    .thenReturn(Optional.of(new PostIdPage(List.of(first.getId(), second.getId()), 7)));
+            when(postRepository.findSummariesByIdIn(List.of(first.getId(), second.getId()))).thenReturn(List.of(second, first));
+            when(postMapper.toSummaryDto(eq(first), any())).thenReturn(firstSummary);
+            when(postMapper.toSummaryDto(eq(second), any())).thenReturn(secondSummary);
+
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(null, null, pageable);
+
+            assertThat(result.getContent()).containsExactly(firstSummary, secondSummary);
+            assertThat(result.getTotalElements()).isEqualTo(7);
+            verify(postRepository, never()).findSummariesByStatus(any(), any());
+            verify(postCache, never()).getAll(any());
+            verify(postCache, never()).putAll(any());
+        }
+
+        @Test
+        @DisplayName("should serve an empty cached listing without querying")
+        void shouldServeEmptyCachedListing() {
+            Pageable pageable = PageRequest.of(3, 10);
+
+            when(postListingCache.keyFor(null, null, pageable)).thenReturn("listing-key");
+            when(postListingCache.get("listing-key")).thenReturn(Optional.of(new PostIdPage(List.of(), 25)));
+
+            Page<PostSummaryDto> result = postQueryService.getAllPosts(null, null, pageable);
+
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isEqualTo(25);
+            verifyNoInteractions(postRepository, postCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("getFeed")
+    class GetFeed {
+
+        @Test
+        @DisplayName("should return a cursor to the last post when more posts exist")
+        void shouldReturnCursorWhenMorePostsExist() {
+            Post first = buildFeedPost(LocalDateTime.of(2025, 1, 3, 10, 0));
+            Post second = buildFeedPost(LocalDateTime.of(2025, 1, 2, 10, 0));
+            Post third = buildFeedPost(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+            when(postRepository.findFeed(PostStatusEnum.PUBLISHED, Limit.of(3)))
+                    .thenReturn(List.of(first, second, third));
+            when(postMapper.toDto(any(Post.class))).thenReturn(buildPostDto());
+
+            CursorSliceDto<PostDto> result = postQueryService.getFeed(null, null, 2);
+
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(FeedCursor.decode(result.getNextCursor())).isEqualTo(FeedCursor.of(second));
+        }
+
+        @Test
+        @DisplayName("should continue after the decoded cursor within the category")
+        void shouldContinueAfterCursor() {
+            UUID categoryId = UUID.randomUUID();
+            FeedCursor cursor = new FeedCursor(LocalDateTime.of(2025, 1, 2, 10, 0, 0, 123_000), UUID.randomUUID());
+
+            when(postRepository.findFeedByCategoryAfter(
+                    PostStatusEnum.PUBLISHED, categoryId, cursor.createdAt(), cursor.id(), Limit.of(21)))
+                    .thenReturn(List.of());
+
+            CursorSliceDto<PostDto> result = postQueryService.getFeed(categoryId, cursor.encode(), 20);
+
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> postQueryService.getFeed(null, "not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
@@ -188,7 +316,8 @@ class PostQueryServiceImplTest {
             Post post = buildPost();
             PostDto dto = buildPostDto();
 
-            when(postRepository.findById(id)).thenReturn(Optional.of(post));
+            loadThroughCache(id);
+            when(postRepository.findWithDetailsById(id)).thenReturn(Optional.of(post));
             when(postMapper.toDto(post)).thenReturn(dto);
 
             PostDto result = postQueryService.getPost(id);
@@ -196,15 +325,129 @@ class PostQueryServiceImplTest {
             assertThat(result).isEqualTo(dto);
         }
 
+        @Test
+        @DisplayName("should serve a cached post without querying the database")
+        void shouldServeCachedPost() {
+            UUID id = UUID.randomUUID();
+            PostDto dto = buildPostDto();
+
+            when(postIdFilter.mightExist(id)).thenReturn(true);
+            when(postCache.getOrLoad(eq(id), any())).thenReturn(dto);
+
+            assertThat(postQueryService.getPost(id)).isEqualTo(dto);
+            verifyNoInteractions(postRepository);
+        }
+
         @Test
         @DisplayName("should throw PostNotFoundException when post does not exist")
         void shouldThrowWhenPostNotFound() {
             UUID id = UUID.randomUUID();
-            when(postRepository.findById(id)).thenReturn(Optional.empty());
+            loadThroughCache(id);
+            when(postRepository.findWithDetailsById(id)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> postQueryService.getPost(id))
                     .isInstanceOf(PostNotFoundException.class)
                     .hasMessageContaining(id.toString());
+            verify(postIdFilter).markMissing(id);
+        }
+
+        @Test
+        @DisplayName("should reject ids the filter does not know without touching cache or database")
+        void shouldRejectUnknownIds() {
+            UUID id = UUID.randomUUID();
+            when(postIdFilter.mightExist(id)).thenReturn(false);
+
+            assertThatThrownBy(() -> postQueryService.getPost(id))
+                    .isInstanceOf(PostNotFoundException.class)
+                    .hasMessageContaining(id.toString());
+            verifyNoInteractions(postCache, postRepository);
+        }
+
+        private void loadThroughCache(UUID id) {
+            when(postIdFilter.mightExist(id)).thenReturn(true);
+            when(postCache.getOrLoad(eq(id), any())).thenAnswer(inv -> inv.<Supplier<PostDto>>getArgument(1).get());
+        }
+    }
+
+    @Nested
+    @DisplayName("getPostVersion")
+    class GetPostVersion {
+
+        @Test
+        @DisplayName("should resolve the version through the cache, loading it from the database")
+        @SuppressWarnings("unchecked")
+        void shouldResolveVersion() {
+            UUID id = UUID.randomUUID();
+            when(postIdFilter.mightExist(id)).thenReturn(true);
+            when(postCache.currentVersion(eq(id), any()))
+                    .thenAnswer(inv -> inv.<Supplier<Optional<Long>>>getArgument(1).get());
+            when(postRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+
+            assertThat(postQueryService.getPostVersion(id)).contains(3L);
+        }
+
+        @Test
+        @DisplayName("should have no version for ids the filter does not know")
+        void shouldSkipUnknownIds() {
+            UUID id = UUID.randomUUID();
+            when(postIdFilter.mightExist(id)).thenReturn(false);
+
+            assertThat(postQueryService.getPostVersion(id)).isEmpty();
+            verifyNoInteractions(postCache, postRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPosts")
+    class GetPosts {
+
+        @Test
+        @DisplayName("should combine cached and loaded posts in request order")
+        void shouldCombineCachedAndLoadedPostsInOrder() {
+            PostDto cachedDto = buildPostDto();
+            Post loaded = buildPost();
+            PostDto loadedDto = buildPostDto();
+            List<UUID> ids = List.of(loaded.getId(), cachedDto.getId());
+
+            when(postIdFilter.mightExist(any())).thenReturn(true);
+            when(postCache.getAll(ids)).thenReturn(Map.of(cachedDto.getId(), cachedDto));
+            when(postRepository.findAllByIdIn(List.of(loaded.getId()))).thenReturn(List.of(loaded));
+            when(postMapper.toDto(loaded)).thenReturn(loadedDto);
+
+            List<PostDto> result = postQueryService.getPosts(ids);
+
+            assertThat(result).containsExactly(loadedDto, cachedDto);
+            verify(postCache).putAll(List.of(loadedDto));
+        }
+
+        @Test
+        @DisplayName("should leave out unknown and missing ids and return duplicates once")
+        void shouldSkipUnknownAndMissingIds() {
+            PostDto cachedDto = buildPostDto();
+            UUID unknownId = UUID.randomUUID();
+            UUID missingId = UUID.randomUUID();
+
+            when(postIdFilter.mightExist(cachedDto.getId())).thenReturn(true);
+            when(postIdFilter.mightExist(missingId)).thenReturn(true);
+            when(postIdFilter.mightExist(unknownId)).thenReturn(false);
+            when(postCache.getAll(List.of(cachedDto.getId(), missingId))).thenReturn(Map.of(cachedDto.getId(), cachedDto));
+            when(postRepository.findAllByIdIn(List.of(missingId))).thenReturn(List.of());
+
+            List<PostDto> result = postQueryService.getPosts(
+                    List.of(cachedDto.getId(), unknownId, missingId, cachedDto.getId()));
+
+            assertThat(result).containsExactly(cachedDto);
+            verify(postIdFilter).markMissing(missingId);
+        }
+
+        @Test
+        @DisplayName("should reject more ids than one batch may hold")
+        void shouldRejectOversizedBatch() {
+            List<UUID> ids = IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID()).toList();
+
+            assertThatThrownBy(() -> postQueryService.getPosts(ids))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(postCache, postRepository);
         }
     }
 
@@ -213,21 +456,21 @@ class PostQueryServiceImplTest {
     class GetDraftPosts {
 
         @Test
-        @DisplayName("should return paginated draft posts for the given user")
+        @DisplayName("should return paginated draft post summaries for the given user")
         void shouldReturnDraftPostsForUser() {
             User user = buildUser();
             Pageable pageable = PageRequest.of(0, 10);
-            Post post = buildPost();
-            PostDto dto = buildPostDto();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            PostSummaryView view = buildSummaryView();
+            PostSummaryDto summary = buildSummaryDto();
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view));
 
-            when(postRepository.findAllByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable)).thenReturn(page);
-            when(postMapper.toDto(post)).thenReturn(dto);
+            when(postRepository.findSummariesByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable)).thenReturn(page);
+            when(postMapper.toSummaryDto(eq(view), any())).thenReturn(summary);
 
-            Page<PostDto> result = postQueryService.getDraftPosts(user, pageable);
+            Page<PostSummaryDto> result = postQueryService.getDraftPosts(user, pageable);
 
-            assertThat(result.getContent()).containsExactly(dto);
-            verify(postRepository).findAllByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable);
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(postRepository).findSummariesByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable);
         }
 
         @Test
@@ -236,13 +479,13 @@ class PostQueryServiceImplTest {
             User user = buildUser();
             Pageable pageable = PageRequest.of(0, 10);
 
-            when(postRepository.findAllByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable))
+            when(postRepository.findSummariesByAuthorAndStatus(user, PostStatusEnum.DRAFT, pageable))
                     .thenReturn(new PageImpl<>(List.of()));
 
-            Page<PostDto> result = postQueryService.getDraftPosts(user, pageable);
+            Page<PostSummaryDto> result = postQueryService.getDraftPosts(user, pageable);
 
             assertThat(result.getContent()).isEmpty();
-            verify(postMapper, never()).toDto(any());
+            verify(postRepository, never()).findTagsByPostIdIn(any());
         }
     }
 
@@ -253,6 +496,14 @@ class PostQueryServiceImplTest {
                 .build();
     }
 
+    private Post buildFeedPost(LocalDateTime createdAt) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title("Feed Post")
+                .createdAt(createdAt)
+                .build();
+    }
+
     private PostDto buildPostDto() {
         return PostDto.builder()
                 .id(UUID.randomUUID())
@@ -260,6 +511,33 @@ class PostQueryServiceImplTest {
                 .build();
     }
 
+    private PostSummaryView buildSummaryView() {
+        UUID id = UUID.randomUUID();
+        PostSummaryView view = mock(PostSummaryView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        return view;
+    }
+
+    private PostTagView buildTagView(UUID postId, String name) {
+        UUID id = UUID.randomUUID();
+        PostTagView tag = mock(PostTagView.class);
+        lenient().when(tag.getPostId()).thenReturn(postId);
+        lenient().when(tag.getId()).thenReturn(id);
+        lenient().when(tag.getName()).thenReturn(name);
+        return tag;
+    }
+
+    private PostSummaryDto buildSummaryDto() {
+        return buildSummaryDto(UUID.randomUUID());
+    }
+
+    private PostSummaryDto buildSummaryDto(UUID id) {
+        return PostSummaryDto.builder()
+                .id(id)
+                .title("Test Post")
+                .build();
+    }
+
     private Category buildCategory(UUID id) {
         return Category.builder()
                 .id(id)
@@ -0,0 +1,52 @@
+package com.boris.springredisblueprint.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("should always report added values")
+    void shouldReportAddedValues() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        List<String> values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        values.forEach(filter::add);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("should keep false positives close to the configured rate")
+    void shouldKeepFalsePositivesNearRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(UUID.randomUUID().toString()));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("should report nothing when empty")
+    void shouldReportNothingWhenEmpty() {
+        assertThat(new BloomFilter(100, 0.01).mightContain("anything")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject an invalid false positive rate")
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> new BloomFilter(100, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
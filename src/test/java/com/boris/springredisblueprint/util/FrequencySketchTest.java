@@ -0,0 +1,72 @@
+package com.boris.springredisblueprint.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FrequencySketch")
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("should never estimate less than the number of increments")
+    void shouldNotUndercount() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        UUID key = UUID.randomUUID();
+
+        IntStream.range(0, 5).forEach(i -> sketch.increment(key));
+
+        assertThat(sketch.frequency(key)).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should saturate at the maximum frequency")
+    void shouldSaturate() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        UUID key = UUID.randomUUID();
+
+        IntStream.range(0, 100).forEach(i -> sketch.increment(key));
+
+        assertThat(sketch.frequency(key)).isEqualTo(FrequencySketch.MAX_FREQUENCY);
+    }
+
+    @Test
+    @DisplayName("should rarely overestimate keys that were never seen")
+    void shouldRarelyOvercountUnseenKeys() {
+        FrequencySketch sketch = new FrequencySketch(10_000);
+        IntStream.range(0, 10_000).forEach(i -> sketch.increment(UUID.randomUUID()));
+
+        long overcounted = IntStream.range(0, 10_000)
+                .filter(i -> sketch.frequency(UUID.randomUUID()) > 0)
+                .count();
+
+        assertThat(overcounted).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("should halve frequencies once enough increments were recorded")
+    void shouldAge() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+        UUID hot = UUID.randomUUID();
+        IntStream.range(0, FrequencySketch.MAX_FREQUENCY).forEach(i -> sketch.increment(hot));
+
+        // 1024 slots per row age after 10240 increments, long before every slot saturates
+        int increments = 0;
+        while (sketch.frequency(hot) == FrequencySketch.MAX_FREQUENCY && increments < 20_000) {
+            sketch.increment(UUID.randomUUID());
+            increments++;
+        }
+
+        assertThat(sketch.frequency(hot)).isLessThanOrEqualTo(FrequencySketch.MAX_FREQUENCY / 2);
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive size")
+    void shouldRejectInvalidSize() {
+        assertThatThrownBy(() -> new FrequencySketch(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.boris.springredisblueprint.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TextExcerpt")
+class TextExcerptTest {
+
+    @Test
+    @DisplayName("should return short text with whitespace collapsed")
+    void shouldCollapseWhitespace() {
+        assertThat(TextExcerpt.of("  Hello,\n\n  world!\t", 20)).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    @DisplayName("should return empty string for null or blank text")
+    void shouldHandleEmptyText() {
+        assertThat(TextExcerpt.of(null, 10)).isEmpty();
+        assertThat(TextExcerpt.of(" \n\t ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep text of exactly the maximum length")
+    void shouldKeepTextAtLimit() {
+        assertThat(TextExcerpt.of("one two", 7)).isEqualTo("one two");
+    }
+
+    @Test
+    @DisplayName("should cut longer text at the last word boundary")
+    void shouldCutAtWordBoundary() {
+        assertThat(TextExcerpt.of("one two three", 10)).isEqualTo("one two…");
+    }
+
+    @Test
+    @DisplayName("should keep a word ending right at the limit")
+    void shouldKeepWordEndingAtLimit() {
+        assertThat(TextExcerpt.of("one two   three", 7)).isEqualTo("one two…");
+    }
+
+    @Test
+    @DisplayName("should cut a single long word at the limit")
+    void shouldCutLongWord() {
+        assertThat(TextExcerpt.of("abcdefghij", 4)).isEqualTo("abcd…");
+    }
+
+    @Test
+    @DisplayName("should not split a surrogate pair")
+    void shouldNotSplitSurrogatePair() {
+        assertThat(TextExcerpt.of("ab😀cd", 3)).isEqualTo("ab…");
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive length")
+    void shouldRejectInvalidLength() {
+        assertThatThrownBy(() -> TextExcerpt.of("text", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
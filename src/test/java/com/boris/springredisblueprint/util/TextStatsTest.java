@@ -0,0 +1,50 @@
+package com.boris.springredisblueprint.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextStats")
+class TextStatsTest {
+
+    @Test
+    @DisplayName("should return empty stats for null and empty text")
+    void shouldReturnEmptyStats() {
+        assertThat(TextStats.of(null)).isEqualTo(TextStats.EMPTY);
+        assertThat(TextStats.of("")).isEqualTo(TextStats.EMPTY);
+    }
+
+    @Test
+    @DisplayName("should count words separated by runs of whitespace")
+    void shouldCountWords() {
+        TextStats stats = TextStats.of("  Redis   caches\tposts\r\nfor   Spring  ");
+
+        assertThat(stats.wordCount()).isEqualTo(5);
+        assertThat(stats.characterCount()).isEqualTo(38);
+    }
+
+    @Test
+    @DisplayName("should treat Unicode spaces as separators")
+    void shouldTreatUnicodeSpacesAsSeparators() {
+        // no-break space, em space, ideographic space and line separator
+        TextStats stats = TextStats.of("one\u00A0two\u2003three\u3000four\u2028five");
+
+        assertThat(stats.wordCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should count surrogate pairs as a single character")
+    void shouldCountSurrogatePairsOnce() {
+        TextStats stats = TextStats.of("hi \uD83D\uDE80");
+
+        assertThat(stats.wordCount()).isEqualTo(2);
+        assertThat(stats.characterCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should return zero words for whitespace only text")
+    void shouldReturnZeroWordsForBlankText() {
+        assertThat(TextStats.of(" \t\n ").wordCount()).isZero();
+    }
+}